@@ -0,0 +1,17 @@
+package com.example.studyproject.reactive;
+
+import com.example.studyproject.exceptionhandler.GlobalExceptionHandler;
+import com.example.studyproject.utils.json.UserJsonModule;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+@SpringBootApplication
+@Import({GlobalExceptionHandler.class, UserJsonModule.class})
+public class ReactiveStudyprojectApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveStudyprojectApplication.class, args);
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.example.studyproject.reactive.controllers;
+
+import com.example.studyproject.dto.UserDTO;
+import com.example.studyproject.models.User;
+import com.example.studyproject.reactive.services.ReactiveUserService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/users")
+public class ReactiveUserController {
+
+    private final ReactiveUserService userService;
+
+    @GetMapping("/{userId}")
+    public Mono<ResponseEntity<User>> getById(@PathVariable Long userId){
+        return userService.getById(userId).map(user -> new ResponseEntity<>(user, HttpStatus.OK));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<User>> add(@Valid @RequestBody UserDTO userDTO){
+        return userService.create(userDTO).map(user -> new ResponseEntity<>(user, HttpStatus.CREATED));
+    }
+
+    @PutMapping
+    public Mono<ResponseEntity<User>> edit(@Valid @RequestBody UserDTO userDTO){
+        return userService.edit(userDTO).map(user -> new ResponseEntity<>(user, HttpStatus.OK));
+    }
+
+    @DeleteMapping("/{userId}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable Long userId){
+        return userService.deleteById(userId).thenReturn(new ResponseEntity<>(HttpStatus.NO_CONTENT));
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.studyproject.reactive.exceptionhandler;
+
+import com.example.studyproject.utils.validation.ValidationError;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ControllerAdvice
+public class ReactiveValidationExceptionHandler {
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ValidationError> handleWebExchangeBindException(WebExchangeBindException ex) {
+        List<String> errors = new ArrayList<>();
+
+        for (FieldError fieldError : ex.getFieldErrors()) {
+            errors.add(fieldError.getDefaultMessage());
+        }
+
+        ValidationError validationError = new ValidationError();
+        validationError.setErrors(errors);
+        return new ResponseEntity<>(validationError, HttpStatus.BAD_REQUEST);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.studyproject.reactive.repositories;
+
+import com.example.studyproject.models.User;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<User> findById(Long id) {
+        return databaseClient.sql("SELECT id, first_name, last_name, email, password FROM users WHERE id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> toUser(row))
+                .one();
+    }
+
+    public Mono<Boolean> existsUserByEmail(String email) {
+        return databaseClient.sql("SELECT COUNT(*) AS total FROM users WHERE email = :email")
+                .bind("email", email)
+                .map((row, metadata) -> row.get("total", Long.class))
+                .one()
+                .map(total -> total > 0);
+    }
+
+    public Mono<User> save(User user) {
+        if (user.getId() == null) {
+            return databaseClient.sql("INSERT INTO users (first_name, last_name, email, password) "
+                            + "VALUES (:firstName, :lastName, :email, :password)")
+                    .bind("firstName", user.getFirstName())
+                    .bind("lastName", user.getLastName())
+                    .bind("email", user.getEmail())
+                    .bind("password", user.getPassword())
+                    .filter(statement -> statement.returnGeneratedValues("id"))
+                    .map((row, metadata) -> row.get("id", Long.class))
+                    .one()
+                    .map(id -> {
+                        user.setId(id);
+                        return user;
+                    });
+        }
+        return databaseClient.sql("UPDATE users SET first_name = :firstName, last_name = :lastName, "
+                        + "email = :email, password = :password WHERE id = :id")
+                .bind("firstName", user.getFirstName())
+                .bind("lastName", user.getLastName())
+                .bind("email", user.getEmail())
+                .bind("password", user.getPassword())
+                .bind("id", user.getId())
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(user);
+    }
+
+    public Mono<Void> delete(User user) {
+        return databaseClient.sql("DELETE FROM users WHERE id = :id")
+                .bind("id", user.getId())
+                .fetch()
+                .rowsUpdated()
+                .then();
+    }
+
+    private User toUser(Row row) {
+        return User.builder()
+                .id(row.get("id", Long.class))
+                .firstName(row.get("first_name", String.class))
+                .lastName(row.get("last_name", String.class))
+                .email(row.get("email", String.class))
+                .password(row.get("password", String.class))
+                .build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.studyproject.reactive.services;
+
+import com.example.studyproject.dto.UserDTO;
+import com.example.studyproject.models.User;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserService {
+    Mono<User> create(UserDTO userDTO);
+    Mono<User> getById(Long userId);
+    Mono<Void> deleteById(Long userId);
+    Mono<User> edit(UserDTO userDTO);
+}
@@ -0,0 +1,49 @@
+package com.example.studyproject.reactive.services.impl;
+
+import com.example.studyproject.dto.UserDTO;
+import com.example.studyproject.exceptions.UserAlreadyExistsException;
+import com.example.studyproject.exceptions.UserNotFoundException;
+import com.example.studyproject.models.User;
+import com.example.studyproject.reactive.repositories.ReactiveUserRepository;
+import com.example.studyproject.reactive.services.ReactiveUserService;
+import com.example.studyproject.utils.converter.UserDTOToUserConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class ReactiveUserServiceImpl implements ReactiveUserService {
+
+    private final ReactiveUserRepository userRepository;
+
+    @Override
+    public Mono<User> create(UserDTO userDTO) {
+        return userRepository.existsUserByEmail(userDTO.getEmail())
+                .flatMap(exists -> exists
+                        ? Mono.error(new UserAlreadyExistsException("User with email " + userDTO.getEmail() + " already exists"))
+                        : userRepository.save(UserDTOToUserConverter.convertUserDTOToUser(userDTO)));
+    }
+
+    @Override
+    public Mono<User> getById(Long userId) {
+        return userRepository.findById(userId)
+                .switchIfEmpty(Mono.error(() -> new UserNotFoundException("User with id " + userId + " not found")));
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long userId) {
+        return getById(userId).flatMap(userRepository::delete);
+    }
+
+    @Override
+    public Mono<User> edit(UserDTO userDTO) {
+        return getById(userDTO.getId())
+                .flatMap(existingUser -> existingUser.getEmail().equals(userDTO.getEmail())
+                        ? Mono.just(false)
+                        : userRepository.existsUserByEmail(userDTO.getEmail()))
+                .flatMap(emailTaken -> emailTaken
+                        ? Mono.error(new UserAlreadyExistsException("User with email " + userDTO.getEmail() + " already exists"))
+                        : userRepository.save(UserDTOToUserConverter.convertUserDTOToUser(userDTO)));
+    }
+}
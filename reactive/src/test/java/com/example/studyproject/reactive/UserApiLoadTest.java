@@ -0,0 +1,96 @@
+package com.example.studyproject.reactive;
+
+import com.example.studyproject.dto.UserDTO;
+import com.example.studyproject.models.User;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Drives the same GET-by-id workload against a running servlet instance and a running reactive
+ * instance. Start both applications first, e.g. {@code ./mvnw spring-boot:run} in the root project
+ * and in this module, then run {@code ./mvnw test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+class UserApiLoadTest {
+
+    private static final String SERVLET_URL = System.getProperty("loadtest.servlet-url", "http://localhost:8080");
+    private static final String REACTIVE_URL = System.getProperty("loadtest.reactive-url", "http://localhost:8081");
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 50_000);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 2_000);
+
+    @Test
+    void compareServletWithReactive() {
+        run("servlet", SERVLET_URL);
+        run("reactive", REACTIVE_URL);
+    }
+
+    private void run(String name, String baseUrl) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("load-test-" + name)
+                .maxConnections(CONCURRENCY)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        WebClient client = WebClient.builder()
+                .baseUrl(baseUrl + "/api/v1/users")
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build();
+        User user = client.post()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(UserDTO.builder()
+                        .firstName("Load")
+                        .lastName("Test")
+                        .email("load" + UUID.randomUUID().toString().replace("-", "") + "@domain.com")
+                        .password("Password1#")
+                        .build())
+                .retrieve()
+                .bodyToMono(User.class)
+                .block();
+        Assertions.assertThat(user).as("user created on %s", name).isNotNull();
+
+        long[] latencies = new long[REQUESTS];
+        long start = System.nanoTime();
+        Flux.range(0, REQUESTS)
+                .flatMap(index -> {
+                    long requestStart = System.nanoTime();
+                    return client.get().uri("/{userId}", user.getId())
+                            .retrieve()
+                            .toBodilessEntity()
+                            .doOnSuccess(response -> latencies[index] = System.nanoTime() - requestStart)
+                            .onErrorResume(ex -> Mono.empty());
+                }, CONCURRENCY)
+                .blockLast(Duration.ofMinutes(10));
+        long elapsed = System.nanoTime() - start;
+        connectionProvider.dispose();
+
+        long[] completed = Arrays.stream(latencies).filter(latency -> latency > 0).sorted().toArray();
+        log.info("{} requests={} ok={} concurrency={} throughput={} req/s p50={} ms p99={} ms max={} ms",
+                name, REQUESTS, completed.length, CONCURRENCY,
+                String.format("%.0f", completed.length / (elapsed / 1e9)),
+                String.format("%.2f", percentile(completed, 0.50)),
+                String.format("%.2f", percentile(completed, 0.99)),
+                String.format("%.2f", percentile(completed, 1.0)));
+        // Failed requests are cheap and would flatter the latency of the stack that dropped them.
+        Assertions.assertThat(completed.length).as("successful %s requests", name).isEqualTo(REQUESTS);
+    }
+
+    private double percentile(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sortedLatencies.length - 1, Math.ceil(percentile * sortedLatencies.length) - 1);
+        return sortedLatencies[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.studyproject.reactive.controllers;
+
+import com.example.studyproject.dto.UserDTO;
+import com.example.studyproject.models.User;
+import com.example.studyproject.reactive.services.ReactiveUserService;
+import com.example.studyproject.utils.validation.ValidationError;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+public class ReactiveUserControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ReactiveUserService userService;
+
+    @Test
+    @DirtiesContext
+    public void getById_ShouldReturnUser() throws Exception {
+        User user = userService.create(createDefaultUserDTO()).block();
+
+        webTestClient.get().uri("/api/v1/users/" + user.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json(objectMapper.writeValueAsString(user), true);
+    }
+
+    @Test
+    @DirtiesContext
+    public void getById_WhenUserNotFound_ShouldReturn404() throws Exception {
+        webTestClient.get().uri("/api/v1/users/0")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().json(errorResponse("User with such id not found"), true);
+    }
+
+    @Test
+    @DirtiesContext
+    public void add_ShouldReturnCreatedUser() throws Exception {
+        User user = User.builder()
+                .id(1L)
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email("email@domain.com")
+                .password("Password1#")
+                .build();
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(createDefaultUserDTO()))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().json(objectMapper.writeValueAsString(user), true);
+    }
+
+    @Test
+    @DirtiesContext
+    public void add_WhenUserDTOInvalid_ShouldReturn400() throws Exception {
+        UserDTO userDTO = UserDTO.builder()
+                .lastName("LastName")
+                .email("email@domain.com")
+                .password("Password1#")
+                .build();
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(userDTO))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().json(errorResponse("Invalid firstName field: The field firstName should not contain digits or symbols and must not be empty"), true);
+    }
+
+    @Test
+    @DirtiesContext
+    public void add_WhenUserDTOsEmailAlreadyExist_ShouldReturn409() throws Exception {
+        userService.create(createDefaultUserDTO()).block();
+
+        webTestClient.post().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(createDefaultUserDTO()))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody().json(errorResponse("User with such email already exists"), true);
+    }
+
+    @Test
+    @DirtiesContext
+    public void deleteById_ShouldReturnNoContent() {
+        User user = userService.create(createDefaultUserDTO()).block();
+
+        webTestClient.delete().uri("/api/v1/users/" + user.getId())
+                .exchange()
+                .expectStatus().isNoContent()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    @DirtiesContext
+    public void deleteById_WhenUserNotFound_ShouldReturn404() throws Exception {
+        webTestClient.delete().uri("/api/v1/users/0")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().json(errorResponse("User with such id not found"), true);
+    }
+
+    @Test
+    @DirtiesContext
+    public void edit_returnChangedUser() throws Exception {
+        User userAlreadyExist = userService.create(createDefaultUserDTO()).block();
+
+        UserDTO userDTOReceived = UserDTO.builder()
+                .id(userAlreadyExist.getId())
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email("email@domain.com")
+                .password("Password1#")
+                .build();
+        String requestBody = objectMapper.writeValueAsString(userDTOReceived);
+
+        webTestClient.put().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json(requestBody, true);
+    }
+
+    @Test
+    @DirtiesContext
+    public void edit_WhenUserWithSuchEmailAlreadyExist_return409() throws Exception {
+        User userAlreadyExist = userService.create(createDefaultUserDTO()).block();
+        userService.create(UserDTO.builder()
+                .firstName("FirstName1")
+                .lastName("LastName1")
+                .email("email1@domain.com")
+                .password("Password1#")
+                .build()).block();
+
+        UserDTO userDTOReceived = UserDTO.builder()
+                .id(userAlreadyExist.getId())
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email("email1@domain.com")
+                .password("Password1#")
+                .build();
+
+        webTestClient.put().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(userDTOReceived))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody().json(errorResponse("User with such email already exists"), true);
+    }
+
+    @Test
+    @DirtiesContext
+    public void edit_WhenUserDTOWithSuchIdNotFound_return404() throws Exception {
+        UserDTO userDTOReceived = UserDTO.builder()
+                .id(1L)
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email("email@domain.com")
+                .password("Password1#")
+                .build();
+
+        webTestClient.put().uri("/api/v1/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(objectMapper.writeValueAsString(userDTOReceived))
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().json(errorResponse("User with such id not found"), true);
+    }
+
+    private String errorResponse(String message) throws Exception {
+        ValidationError error = new ValidationError();
+        error.setErrors(List.of(message));
+        return objectMapper.writeValueAsString(error);
+    }
+
+    private UserDTO createDefaultUserDTO(){
+        return UserDTO.builder()
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email("email@domain.com")
+                .password("Password1#")
+                .build();
+    }
+
+}
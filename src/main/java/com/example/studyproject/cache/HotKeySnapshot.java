@@ -0,0 +1,59 @@
+package com.example.studyproject.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Binary list of cache keys, hottest first: {@code [int magic][int count][long id]*}. Written to a
+ * temporary file and moved into place, so a crash never leaves a half-written snapshot behind.
+ */
+final class HotKeySnapshot {
+
+    private static final int MAGIC = 0x484b5331;
+
+    private HotKeySnapshot() {
+    }
+
+    static void write(Path file, long[] ids) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temporary = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(ids.length);
+            for (long id : ids) {
+                out.writeLong(id);
+            }
+        } catch (IOException ex) {
+            Files.deleteIfExists(temporary);
+            throw ex;
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static long[] read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return new long[0];
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (Files.size(file) < 8 || in.readInt() != MAGIC) {
+                return new long[0];
+            }
+            int count = in.readInt();
+            if (count < 0 || Files.size(file) != 8 + 8L * count) {
+                return new long[0];
+            }
+            long[] ids = new long[count];
+            for (int i = 0; i < count; i++) {
+                ids[i] = in.readLong();
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.studyproject.cache;
+
+import com.example.studyproject.repositories.UserRepository;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The user cache is local to each instance and only invalidated by that instance's own writes, so a
+ * user edited or deleted through another instance stays visible here until the cached copy expires
+ * ({@code expireAfterWrite} in {@code spring.cache.caffeine.spec}). Entries that keep being read are
+ * reloaded in the background once {@code refreshAfterWrite} has passed, which keeps them warm without
+ * extending that bound.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(UserCacheProperties.class)
+public class UserCacheConfig {
+
+    public static final String USERS_CACHE = "users";
+
+    // Looked up on first reload, since creating the repositories already needs the cache manager.
+    @Bean
+    public CacheLoader<Object, Object> userCacheLoader(ObjectProvider<UserRepository> userRepository) {
+        return id -> userRepository.getObject().findById((Long) id).orElse(null);
+    }
+}
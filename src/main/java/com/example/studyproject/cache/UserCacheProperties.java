@@ -0,0 +1,15 @@
+package com.example.studyproject.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.user-cache")
+public class UserCacheProperties {
+
+    private String snapshotFile = "data/hot-users.bin";
+    private int snapshotSize = 10_000;
+    private int warmupBatchSize = 500;
+    private long warmupBudgetMillis = 10_000;
+    private long hitRateWindowMillis = 60_000;
+}
@@ -0,0 +1,127 @@
+package com.example.studyproject.cache;
+
+import com.example.studyproject.events.UserChangedEvent;
+import com.example.studyproject.models.User;
+import com.example.studyproject.repositories.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Persists the hottest cached user ids, as ranked by Caffeine's frequency sketch, and loads them
+ * back with batched {@code findAllById} lookups while the application starts. Runners complete
+ * before the readiness state switches to accepting traffic, so a new instance only receives
+ * traffic once the warm-up finished or ran out of its time budget.
+ */
+@Slf4j
+@Component
+public class UserCacheWarmer implements ApplicationRunner {
+
+    private final UserRepository userRepository;
+    private final Cache<Object, Object> cache;
+    private final UserCacheProperties properties;
+    private final TaskScheduler taskScheduler;
+    private volatile CacheStats statsAfterWarmup;
+
+    public UserCacheWarmer(UserRepository userRepository, CacheManager cacheManager, UserCacheProperties properties,
+                           TaskScheduler taskScheduler) {
+        this.userRepository = userRepository;
+        this.cache = ((CaffeineCache) cacheManager.getCache(UserCacheConfig.USERS_CACHE)).getNativeCache();
+        this.properties = properties;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        warmUp();
+        statsAfterWarmup = cache.stats();
+        taskScheduler.schedule(this::reportHitRate, Instant.now().plusMillis(properties.getHitRateWindowMillis()));
+    }
+
+    public int warmUp() {
+        if (!StringUtils.hasText(properties.getSnapshotFile())) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        long deadline = start + properties.getWarmupBudgetMillis() * 1_000_000;
+        long[] ids;
+        try {
+            ids = HotKeySnapshot.read(Path.of(properties.getSnapshotFile()));
+        } catch (IOException ex) {
+            log.warn("Could not read user cache snapshot {}", properties.getSnapshotFile(), ex);
+            return 0;
+        }
+        int loaded = 0;
+        for (int from = 0; from < ids.length && System.nanoTime() < deadline; from += properties.getWarmupBatchSize()) {
+            List<Long> batch = new ArrayList<>(properties.getWarmupBatchSize());
+            for (int i = from; i < Math.min(ids.length, from + properties.getWarmupBatchSize()); i++) {
+                batch.add(ids[i]);
+            }
+            for (User user : userRepository.findAllById(batch)) {
+                cache.put(user.getId(), user);
+                loaded++;
+            }
+        }
+        log.info("Warmed user cache with {} of {} snapshot ids in {} ms",
+                loaded, ids.length, (System.nanoTime() - start) / 1_000_000);
+        return loaded;
+    }
+
+    @PreDestroy
+    @Scheduled(initialDelayString = "${app.user-cache.snapshot-interval-millis}",
+            fixedDelayString = "${app.user-cache.snapshot-interval-millis}")
+    public void writeSnapshot() {
+        if (!StringUtils.hasText(properties.getSnapshotFile())) {
+            return;
+        }
+        long[] ids = cache.policy().eviction()
+                .map(eviction -> eviction.hottest(properties.getSnapshotSize()).keySet().stream()
+                        .mapToLong(id -> (Long) id)
+                        .toArray())
+                .orElseGet(() -> new long[0]);
+        if (ids.length == 0) {
+            return;
+        }
+        try {
+            HotKeySnapshot.write(Path.of(properties.getSnapshotFile()), ids);
+        } catch (IOException ex) {
+            log.warn("Could not write user cache snapshot {}", properties.getSnapshotFile(), ex);
+        }
+    }
+
+    // Both block while the same user is being loaded, so a load that read the row before the commit
+    // cannot put its stale copy back afterwards.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        switch (event.getType()) {
+            case UPDATED -> cache.asMap().replace(event.getUser().getId(), event.getUser().toBuilder().build());
+            case DELETED -> cache.invalidate(event.getUser().getId());
+            default -> {
+            }
+        }
+    }
+
+    void reportHitRate() {
+        CacheStats stats = cache.stats().minus(statsAfterWarmup);
+        log.info("User cache hit rate in the first {} ms after startup: {}% ({} hits, {} misses)",
+                properties.getHitRateWindowMillis(), String.format(Locale.ROOT, "%.1f", stats.hitRate() * 100),
+                stats.hitCount(), stats.missCount());
+    }
+}
@@ -1,14 +1,24 @@
 package com.example.studyproject.controllers;
 
+import com.example.studyproject.dto.EmailAvailabilityDTO;
+import com.example.studyproject.dto.EmailAvailabilityStatsDTO;
+import com.example.studyproject.dto.RequestDeadlineStatsDTO;
 import com.example.studyproject.dto.UserDTO;
+import com.example.studyproject.dto.UserStatsDTO;
 import com.example.studyproject.models.User;
+import com.example.studyproject.services.EmailAvailabilityService;
+import com.example.studyproject.services.UserChangeFeedService;
 import com.example.studyproject.services.UserService;
+import com.example.studyproject.services.UserStatsService;
+import com.example.studyproject.utils.deadline.RequestDeadlineMetrics;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -16,6 +26,36 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final UserChangeFeedService userChangeFeedService;
+    private final EmailAvailabilityService emailAvailabilityService;
+    private final UserStatsService userStatsService;
+    private final RequestDeadlineMetrics requestDeadlineMetrics;
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter changes(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                              @RequestParam(value = "resumeToken", required = false) String resumeToken){
+        return userChangeFeedService.subscribe(lastEventId != null ? lastEventId : resumeToken);
+    }
+
+    @GetMapping("/email-availability")
+    public ResponseEntity<EmailAvailabilityDTO> emailAvailability(@RequestParam String email){
+        return new ResponseEntity<>(emailAvailabilityService.check(email), HttpStatus.OK);
+    }
+
+    @GetMapping("/email-availability/stats")
+    public ResponseEntity<EmailAvailabilityStatsDTO> emailAvailabilityStats(){
+        return new ResponseEntity<>(emailAvailabilityService.getStats(), HttpStatus.OK);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<UserStatsDTO> stats(){
+        return new ResponseEntity<>(userStatsService.getStats(), HttpStatus.OK);
+    }
+
+    @GetMapping("/deadline-stats")
+    public ResponseEntity<RequestDeadlineStatsDTO> deadlineStats(){
+        return new ResponseEntity<>(requestDeadlineMetrics.getStats(), HttpStatus.OK);
+    }
 
     @GetMapping("/{userId}")
     public ResponseEntity<User> getById(@PathVariable Long userId){
@@ -0,0 +1,24 @@
+package com.example.studyproject.controllers;
+
+import com.example.studyproject.dto.UserChangesPageDTO;
+import com.example.studyproject.services.UserDeltaSyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/users")
+@ConditionalOnProperty(name = "app.delta-sync.enabled", havingValue = "true", matchIfMissing = true)
+public class UserDeltaSyncController {
+
+    private final UserDeltaSyncService userDeltaSyncService;
+
+    @GetMapping("/changes-since")
+    public ResponseEntity<UserChangesPageDTO> changesSince(@RequestParam(value = "watermark", required = false) String watermark,
+                                                           @RequestParam(value = "limit", required = false) Integer limit){
+        return new ResponseEntity<>(userDeltaSyncService.changesSince(watermark, limit), HttpStatus.OK);
+    }
+}
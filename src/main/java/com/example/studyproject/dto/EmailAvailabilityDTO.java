@@ -0,0 +1,12 @@
+package com.example.studyproject.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class EmailAvailabilityDTO {
+
+    private String email;
+    private boolean available;
+}
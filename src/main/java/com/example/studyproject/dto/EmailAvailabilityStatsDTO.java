@@ -0,0 +1,20 @@
+package com.example.studyproject.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@Builder
+public class EmailAvailabilityStatsDTO {
+
+    private boolean ready;
+    private long indexedEmails;
+    private long checks;
+    private long answeredByFilter;
+    private long falsePositives;
+    private double observedFalsePositiveRate;
+    private double expectedFalsePositiveRate;
+    private Instant lastRebuild;
+}
@@ -0,0 +1,17 @@
+package com.example.studyproject.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class RequestDeadlineStatsDTO {
+
+    private long exceededRequests;
+    private long rejectedStatements;
+    private long cancelledStatements;
+    private long connectionTimeouts;
+    private long cancelledStatementMillis;
+    private double meanStatementMillis;
+    private long estimatedDbTimeSavedMillis;
+}
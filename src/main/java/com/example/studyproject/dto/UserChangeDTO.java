@@ -0,0 +1,13 @@
+package com.example.studyproject.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class UserChangeDTO {
+
+    private String type;
+    private Long userId;
+    private UserSummaryDTO user;
+}
@@ -0,0 +1,16 @@
+package com.example.studyproject.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class UserChangesPageDTO {
+
+    private List<UserChangeDTO> changes;
+    private String watermark;
+    private boolean hasMore;
+    private boolean resyncRequired;
+}
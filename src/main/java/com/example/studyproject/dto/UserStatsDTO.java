@@ -0,0 +1,18 @@
+package com.example.studyproject.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+@Builder
+public class UserStatsDTO {
+
+    private boolean ready;
+    private long totalUsers;
+    private Map<String, Long> usersByDomain;
+    private Instant lastReconcile;
+    private long lastReconcileCorrection;
+}
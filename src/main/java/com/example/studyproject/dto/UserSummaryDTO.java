@@ -0,0 +1,27 @@
+package com.example.studyproject.dto;
+
+import com.example.studyproject.models.User;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * The public fields of a user, without the password, as published in change feeds.
+ */
+@Data
+@Builder
+public class UserSummaryDTO {
+
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+
+    public static UserSummaryDTO of(User user) {
+        return UserSummaryDTO.builder()
+                .id(user.getId())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .email(user.getEmail())
+                .build();
+    }
+}
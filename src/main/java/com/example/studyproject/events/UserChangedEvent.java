@@ -0,0 +1,30 @@
+package com.example.studyproject.events;
+
+import com.example.studyproject.models.User;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final User user;
+    private final User previous;
+
+    public static UserChangedEvent created(User user) {
+        return new UserChangedEvent(Type.CREATED, user, null);
+    }
+
+    public static UserChangedEvent updated(User previous, User user) {
+        return new UserChangedEvent(Type.UPDATED, user, previous);
+    }
+
+    public static UserChangedEvent deleted(User user) {
+        return new UserChangedEvent(Type.DELETED, user, user);
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.studyproject.exceptionhandler;
 
 
+import com.example.studyproject.exceptions.DeadlineExceededException;
+import com.example.studyproject.exceptions.InvalidWatermarkException;
 import com.example.studyproject.exceptions.UserAlreadyExistsException;
 import com.example.studyproject.exceptions.UserNotFoundException;
 import com.example.studyproject.utils.validation.ValidationError;
@@ -28,6 +30,16 @@ public class GlobalExceptionHandler {
         return buildValidationErrorResponse(List.of("User with such id not found"), HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(InvalidWatermarkException.class)
+    public ResponseEntity<ValidationError> handleInvalidWatermarkException(InvalidWatermarkException ex) {
+        return buildValidationErrorResponse(List.of("Invalid watermark"), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ValidationError> handleDeadlineExceededException(DeadlineExceededException ex) {
+        return buildValidationErrorResponse(List.of("Request deadline exceeded"), HttpStatus.GATEWAY_TIMEOUT);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationError> handleMethodArgumentNotValidException(MethodArgumentNotValidException ex) {
         BindingResult bindingResult = ex.getBindingResult();
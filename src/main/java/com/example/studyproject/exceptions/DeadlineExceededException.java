@@ -0,0 +1,7 @@
+package com.example.studyproject.exceptions;
+
+public class DeadlineExceededException extends RuntimeException {
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
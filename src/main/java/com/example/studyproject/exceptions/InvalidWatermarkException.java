@@ -0,0 +1,7 @@
+package com.example.studyproject.exceptions;
+
+public class InvalidWatermarkException extends RuntimeException {
+    public InvalidWatermarkException(String message) {
+        super(message);
+    }
+}
@@ -1,15 +1,18 @@
 package com.example.studyproject.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 @Data
-@Builder
+@Builder(toBuilder = true)
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_updated_at_id", columnList = "updated_at, id"))
 @AllArgsConstructor
 @NoArgsConstructor
 public class User {
@@ -21,4 +24,10 @@ public class User {
     private String lastName;
     private String email;
     private String password;
+    @JsonIgnore
+    @Column(name = "created_at")
+    private Instant createdAt;
+    @JsonIgnore
+    @Column(name = "updated_at")
+    private Instant updatedAt;
 }
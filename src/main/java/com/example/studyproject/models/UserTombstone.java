@@ -0,0 +1,36 @@
+package com.example.studyproject.models;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@Entity
+@Table(name = "user_tombstones", indexes = @Index(name = "idx_user_tombstones_deleted_at_user_id", columnList = "deleted_at, user_id"))
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserTombstone implements Persistable<Long> {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
+    @Override
+    public Long getId() {
+        return userId;
+    }
+
+    // User ids are never reused, so a tombstone is always inserted rather than merged.
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
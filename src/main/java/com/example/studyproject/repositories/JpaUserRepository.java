@@ -0,0 +1,16 @@
+package com.example.studyproject.repositories;
+
+import com.example.studyproject.models.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface JpaUserRepository extends JpaRepository<User, Long>, UserRepository, UserScanRepository {
+
+    @Query("select u from User u where (u.updatedAt > :updatedAt or (u.updatedAt = :updatedAt and u.id > :id)) "
+            + "and u.updatedAt < :until order by u.updatedAt, u.id")
+    List<User> findChangedSince(Instant updatedAt, Long id, Instant until, Pageable pageable);
+}
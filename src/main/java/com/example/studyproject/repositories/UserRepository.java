@@ -1,8 +1,14 @@
 package com.example.studyproject.repositories;
 
 import com.example.studyproject.models.User;
-import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+import java.util.List;
+import java.util.Optional;
+
+public interface UserRepository extends UserScanRepository {
+    Optional<User> findById(Long id);
+    List<User> findAllById(Iterable<Long> ids);
     boolean existsUserByEmail(String email);
+    <S extends User> S save(S user);
+    void delete(User user);
 }
@@ -0,0 +1,9 @@
+package com.example.studyproject.repositories;
+
+import com.example.studyproject.models.User;
+
+import java.util.function.Consumer;
+
+public interface UserScanRepository {
+    void forEachUser(Consumer<User> consumer);
+}
@@ -0,0 +1,32 @@
+package com.example.studyproject.repositories;
+
+import com.example.studyproject.models.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public class UserScanRepositoryImpl implements UserScanRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void forEachUser(Consumer<User> consumer) {
+        long lastId = 0;
+        List<User> batch;
+        do {
+            batch = entityManager.createQuery("select u from User u where u.id > :lastId order by u.id", User.class)
+                    .setParameter("lastId", lastId)
+                    .setMaxResults(BATCH_SIZE)
+                    .getResultList();
+            for (User user : batch) {
+                consumer.accept(user);
+                lastId = user.getId();
+            }
+        } while (batch.size() == BATCH_SIZE);
+    }
+}
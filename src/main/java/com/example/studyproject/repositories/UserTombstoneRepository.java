@@ -0,0 +1,23 @@
+package com.example.studyproject.repositories;
+
+import com.example.studyproject.models.UserTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface UserTombstoneRepository extends JpaRepository<UserTombstone, Long> {
+
+    @Query("select t from UserTombstone t where (t.deletedAt > :deletedAt or (t.deletedAt = :deletedAt and t.userId > :userId)) "
+            + "and t.deletedAt < :until order by t.deletedAt, t.userId")
+    List<UserTombstone> findDeletedSince(Instant deletedAt, Long userId, Instant until, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("delete from UserTombstone t where t.deletedAt < :deletedAt")
+    int deleteByDeletedAtBefore(Instant deletedAt);
+}
@@ -0,0 +1,24 @@
+package com.example.studyproject.repositories.embedded;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("embedded")
+@RequiredArgsConstructor
+public class EmbeddedCompactionTask {
+
+    private final EmbeddedUserRepository embeddedUserRepository;
+    private final EmbeddedStorageProperties properties;
+
+    @Scheduled(fixedDelayString = "${app.embedded.compaction-interval-millis}")
+    public void compact() {
+        if (embeddedUserRepository.needsCompaction(properties.getCompactionGarbageRatio())) {
+            embeddedUserRepository.compact();
+        } else {
+            embeddedUserRepository.flush();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.studyproject.repositories.embedded;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.nio.file.Path;
+
+@Configuration
+@Profile("embedded")
+@EnableConfigurationProperties(EmbeddedStorageProperties.class)
+public class EmbeddedStorageConfig {
+
+    @Bean
+    public EmbeddedUserRepository embeddedUserRepository(EmbeddedStorageProperties properties) {
+        return new EmbeddedUserRepository(Path.of(properties.getDirectory()), properties.getInitialCapacity());
+    }
+}
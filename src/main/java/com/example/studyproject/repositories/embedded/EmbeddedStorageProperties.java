@@ -0,0 +1,13 @@
+package com.example.studyproject.repositories.embedded;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.embedded")
+public class EmbeddedStorageProperties {
+
+    private String directory = "data";
+    private int initialCapacity = 64 * 1024 * 1024;
+    private double compactionGarbageRatio = 0.5;
+}
@@ -0,0 +1,246 @@
+package com.example.studyproject.repositories.embedded;
+
+import com.example.studyproject.models.User;
+import com.example.studyproject.repositories.UserRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Keeps users off-heap in a memory-mapped {@link UserRecordLog}; only primitive id and email-hash
+ * indexes pointing at record offsets live on the heap. Writes append to the log and superseded
+ * records are dropped by {@link #compact()}, which rewrites the live records into a fresh log.
+ */
+public class EmbeddedUserRepository implements UserRepository, AutoCloseable {
+
+    private static final String LOG_FILE = "users.log";
+    private static final String COMPACTION_FILE = "users.log.compact";
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Path directory;
+    private final int initialCapacity;
+    private final LongMultiIndex idIndex = new LongMultiIndex(1024);
+    private final LongMultiIndex emailIndex = new LongMultiIndex(1024);
+    private UserRecordLog log;
+    private long nextId = 1;
+    private long liveBytes;
+
+    public EmbeddedUserRepository(Path directory, int initialCapacity) {
+        this.directory = directory;
+        this.initialCapacity = initialCapacity;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        open();
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        lock.readLock().lock();
+        try {
+            long offset = idIndex.first(id);
+            return offset < 0 ? Optional.empty() : Optional.of(log.readUser((int) offset));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<User> findAllById(Iterable<Long> ids) {
+        List<User> users = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long id : ids) {
+                long offset = idIndex.first(id);
+                if (offset >= 0) {
+                    users.add(log.readUser((int) offset));
+                }
+            }
+            return users;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsUserByEmail(String email) {
+        byte[] encodedEmail = UserRecordLog.encode(email);
+        lock.readLock().lock();
+        try {
+            return emailIndex.find(emailHash(email), offset -> log.emailEquals((int) offset, encodedEmail)) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public <S extends User> S save(S user) {
+        lock.writeLock().lock();
+        try {
+            Long previousId = user.getId();
+            long id = previousId == null ? nextId : previousId;
+            user.setId(id);
+            int offset;
+            try {
+                offset = log.appendPut(user);
+            } catch (RuntimeException ex) {
+                user.setId(previousId);
+                throw ex;
+            }
+            // The previous version stays indexed until its replacement is in the log.
+            nextId = Math.max(nextId, id + 1);
+            unindex(id);
+            index(id, user.getEmail(), offset);
+            return user;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void delete(User user) {
+        lock.writeLock().lock();
+        try {
+            if (unindex(user.getId())) {
+                log.appendDelete(user.getId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void forEachUser(Consumer<User> consumer) {
+        long[] ids;
+        lock.readLock().lock();
+        try {
+            ids = new long[idIndex.size()];
+            int[] count = {0};
+            idIndex.forEachValue(offset -> ids[count[0]++] = log.readId((int) offset));
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (int from = 0; from < ids.length; from += SCAN_BATCH_SIZE) {
+            List<User> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+            lock.readLock().lock();
+            try {
+                for (int i = from; i < Math.min(ids.length, from + SCAN_BATCH_SIZE); i++) {
+                    long offset = idIndex.first(ids[i]);
+                    if (offset >= 0) {
+                        batch.add(log.readUser((int) offset));
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            batch.forEach(consumer);
+        }
+    }
+
+    public boolean needsCompaction(double garbageRatio) {
+        lock.readLock().lock();
+        try {
+            return log.size() - liveBytes > log.size() * garbageRatio;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            Path compactionFile = directory.resolve(COMPACTION_FILE);
+            Files.deleteIfExists(compactionFile);
+            try (UserRecordLog compacted = new UserRecordLog(compactionFile,
+                    (int) Math.max(initialCapacity, Math.min(Integer.MAX_VALUE, liveBytes * 2)))) {
+                idIndex.forEachValue(offset -> compacted.appendRaw(log.readRaw((int) offset)));
+                if (nextId > 1 && idIndex.first(nextId - 1) < 0) {
+                    compacted.appendDelete(nextId - 1);
+                }
+            }
+            log.close();
+            Files.move(compactionFile, directory.resolve(LOG_FILE),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            open();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void flush() {
+        lock.writeLock().lock();
+        try {
+            log.force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            log.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void open() {
+        idIndex.clear();
+        emailIndex.clear();
+        liveBytes = 0;
+        log = new UserRecordLog(directory.resolve(LOG_FILE), initialCapacity);
+        log.recover((offset, type, id) -> {
+            unindex(id);
+            if (type == UserRecordLog.PUT) {
+                index(id, log.readEmail(offset), offset);
+            }
+            nextId = Math.max(nextId, id + 1);
+        });
+    }
+
+    private void index(long id, String email, int offset) {
+        idIndex.add(id, offset);
+        if (email != null) {
+            emailIndex.add(emailHash(email), offset);
+        }
+        liveBytes += log.recordSize(offset);
+    }
+
+    private boolean unindex(long id) {
+        long offset = idIndex.first(id);
+        if (offset < 0) {
+            return false;
+        }
+        idIndex.remove(id, offset);
+        String email = log.readEmail((int) offset);
+        if (email != null) {
+            emailIndex.remove(emailHash(email), offset);
+        }
+        liveBytes -= log.recordSize((int) offset);
+        return true;
+    }
+
+    private static long emailHash(String email) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < email.length(); i++) {
+            hash ^= email.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
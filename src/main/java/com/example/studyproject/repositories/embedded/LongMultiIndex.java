@@ -0,0 +1,128 @@
+package com.example.studyproject.repositories.embedded;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+/**
+ * Open-addressing long-to-long multimap backed by primitive arrays, so indexes over millions of
+ * records stay compact and lookups never box.
+ */
+final class LongMultiIndex {
+
+    private static final byte EMPTY = 0;
+    private static final byte FULL = 1;
+    private static final byte REMOVED = 2;
+
+    private long[] keys;
+    private long[] values;
+    private byte[] states;
+    private int size;
+    private int removed;
+
+    LongMultiIndex(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    void add(long key, long value) {
+        if ((size + removed + 1) * 2 > states.length) {
+            rehash(capacityFor((size + 1) * 2));
+        }
+        int mask = states.length - 1;
+        int slot = slot(key, mask);
+        while (states[slot] == FULL) {
+            slot = (slot + 1) & mask;
+        }
+        if (states[slot] == REMOVED) {
+            removed--;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        states[slot] = FULL;
+        size++;
+    }
+
+    boolean remove(long key, long value) {
+        int mask = states.length - 1;
+        for (int slot = slot(key, mask); states[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (states[slot] == FULL && keys[slot] == key && values[slot] == value) {
+                states[slot] = REMOVED;
+                size--;
+                removed++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    long first(long key) {
+        int mask = states.length - 1;
+        for (int slot = slot(key, mask); states[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (states[slot] == FULL && keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        return -1;
+    }
+
+    long find(long key, LongPredicate matcher) {
+        int mask = states.length - 1;
+        for (int slot = slot(key, mask); states[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (states[slot] == FULL && keys[slot] == key && matcher.test(values[slot])) {
+                return values[slot];
+            }
+        }
+        return -1;
+    }
+
+    void forEachValue(LongConsumer consumer) {
+        for (int slot = 0; slot < states.length; slot++) {
+            if (states[slot] == FULL) {
+                consumer.accept(values[slot]);
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        Arrays.fill(states, EMPTY);
+        size = 0;
+        removed = 0;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        byte[] oldStates = states;
+        allocate(capacity);
+        for (int slot = 0; slot < oldStates.length; slot++) {
+            if (oldStates[slot] == FULL) {
+                add(oldKeys[slot], oldValues[slot]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        states = new byte[capacity];
+        size = 0;
+        removed = 0;
+    }
+
+    private static int capacityFor(int entries) {
+        int capacity = 16;
+        while (capacity < entries * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
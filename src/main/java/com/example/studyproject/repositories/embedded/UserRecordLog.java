@@ -0,0 +1,263 @@
+package com.example.studyproject.repositories.embedded;
+
+import com.example.studyproject.models.User;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of user records in a memory-mapped file. A record is
+ * {@code [int bodyLength][int crc32][byte type][long id][email][firstName][lastName][password][createdAt][updatedAt]}
+ * where every string is {@code [int length][utf-8 bytes]} and a length of -1 means null, and every
+ * instant is {@code [long epochSecond][int nanos]} with nanos of -1 meaning null. Records written
+ * before the instants were added end after the password and read back without them.
+ * A zero body length marks the end of the log.
+ */
+final class UserRecordLog implements AutoCloseable {
+
+    static final byte PUT = 1;
+    static final byte DELETE = 2;
+
+    private static final int HEADER_SIZE = 8;
+    private static final int TYPE_OFFSET = HEADER_SIZE;
+    private static final int ID_OFFSET = TYPE_OFFSET + 1;
+    private static final int EMAIL_OFFSET = ID_OFFSET + 8;
+    private static final int INSTANT_SIZE = 12;
+
+    interface RecordVisitor {
+        void visit(int offset, byte type, long id);
+    }
+
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int writePosition;
+
+    UserRecordLog(Path file, int initialCapacity) {
+        try {
+            channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            map((int) Math.max(initialCapacity, channel.size()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    void recover(RecordVisitor visitor) {
+        int offset = 0;
+        while (offset + HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(offset);
+            if (length == 0) {
+                break;
+            }
+            if (length < EMAIL_OFFSET - HEADER_SIZE || offset + HEADER_SIZE + length > buffer.capacity()
+                    || buffer.getInt(offset + 4) != crc(offset, length)) {
+                int tornEnd = length > 0 ? (int) Math.min(buffer.capacity(), (long) offset + HEADER_SIZE + length)
+                        : buffer.capacity();
+                for (int i = offset; i < tornEnd; i++) {
+                    buffer.put(i, (byte) 0);
+                }
+                break;
+            }
+            visitor.visit(offset, buffer.get(offset + TYPE_OFFSET), buffer.getLong(offset + ID_OFFSET));
+            offset += HEADER_SIZE + length;
+        }
+        writePosition = offset;
+    }
+
+    int appendPut(User user) {
+        byte[] email = encode(user.getEmail());
+        byte[] firstName = encode(user.getFirstName());
+        byte[] lastName = encode(user.getLastName());
+        byte[] password = encode(user.getPassword());
+        int length = 1 + 8 + fieldSize(email) + fieldSize(firstName) + fieldSize(lastName) + fieldSize(password)
+                + 2 * INSTANT_SIZE;
+        int offset = reserve(length);
+        int position = offset + TYPE_OFFSET;
+        buffer.put(position, PUT);
+        buffer.putLong(position + 1, user.getId());
+        position += 9;
+        position = putField(position, email);
+        position = putField(position, firstName);
+        position = putField(position, lastName);
+        position = putField(position, password);
+        position = putInstant(position, user.getCreatedAt());
+        putInstant(position, user.getUpdatedAt());
+        seal(offset, length);
+        return offset;
+    }
+
+    int appendDelete(long id) {
+        int length = 1 + 8;
+        int offset = reserve(length);
+        buffer.put(offset + TYPE_OFFSET, DELETE);
+        buffer.putLong(offset + ID_OFFSET, id);
+        seal(offset, length);
+        return offset;
+    }
+
+    int appendRaw(byte[] record) {
+        int offset = reserve(record.length - HEADER_SIZE);
+        buffer.put(offset, record);
+        writePosition = offset + record.length;
+        return offset;
+    }
+
+    byte[] readRaw(int offset) {
+        byte[] record = new byte[recordSize(offset)];
+        buffer.get(offset, record);
+        return record;
+    }
+
+    int recordSize(int offset) {
+        return HEADER_SIZE + buffer.getInt(offset);
+    }
+
+    User readUser(int offset) {
+        int position = offset + EMAIL_OFFSET;
+        String email = getField(position);
+        position += fieldSize(buffer.getInt(position));
+        String firstName = getField(position);
+        position += fieldSize(buffer.getInt(position));
+        String lastName = getField(position);
+        position += fieldSize(buffer.getInt(position));
+        String password = getField(position);
+        position += fieldSize(buffer.getInt(position));
+        boolean hasInstants = position < offset + recordSize(offset);
+        Instant createdAt = hasInstants ? getInstant(position) : null;
+        Instant updatedAt = hasInstants ? getInstant(position + INSTANT_SIZE) : null;
+        return User.builder()
+                .id(buffer.getLong(offset + ID_OFFSET))
+                .firstName(firstName)
+                .lastName(lastName)
+                .email(email)
+                .password(password)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    long readId(int offset) {
+        return buffer.getLong(offset + ID_OFFSET);
+    }
+
+    String readEmail(int offset) {
+        return getField(offset + EMAIL_OFFSET);
+    }
+
+    boolean emailEquals(int offset, byte[] email) {
+        int position = offset + EMAIL_OFFSET;
+        if (buffer.getInt(position) != email.length) {
+            return false;
+        }
+        position += 4;
+        for (int i = 0; i < email.length; i++) {
+            if (buffer.get(position + i) != email[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int size() {
+        return writePosition;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() {
+        try {
+            force();
+            channel.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    static byte[] encode(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private int reserve(int length) {
+        long end = (long) writePosition + HEADER_SIZE + length + HEADER_SIZE;
+        if (end > buffer.capacity()) {
+            long capacity = buffer.capacity();
+            while (capacity < end) {
+                capacity *= 2;
+            }
+            if (capacity > Integer.MAX_VALUE) {
+                throw new IllegalStateException("User log cannot grow beyond 2 GB, compaction required");
+            }
+            map((int) capacity);
+        }
+        return writePosition;
+    }
+
+    private void seal(int offset, int length) {
+        buffer.putInt(offset + 4, crc(offset, length));
+        buffer.putInt(offset, length);
+        writePosition = offset + HEADER_SIZE + length;
+    }
+
+    private int crc(int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset + HEADER_SIZE, length));
+        return (int) crc.getValue();
+    }
+
+    private int putField(int position, byte[] value) {
+        if (value == null) {
+            buffer.putInt(position, -1);
+            return position + 4;
+        }
+        buffer.putInt(position, value.length);
+        buffer.put(position + 4, value);
+        return position + 4 + value.length;
+    }
+
+    private String getField(int position) {
+        int length = buffer.getInt(position);
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(position + 4, value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private int putInstant(int position, Instant value) {
+        buffer.putLong(position, value == null ? 0 : value.getEpochSecond());
+        buffer.putInt(position + 8, value == null ? -1 : value.getNano());
+        return position + INSTANT_SIZE;
+    }
+
+    private Instant getInstant(int position) {
+        int nanos = buffer.getInt(position + 8);
+        return nanos < 0 ? null : Instant.ofEpochSecond(buffer.getLong(position), nanos);
+    }
+
+    private static int fieldSize(byte[] value) {
+        return 4 + (value == null ? 0 : value.length);
+    }
+
+    private static int fieldSize(int length) {
+        return 4 + Math.max(length, 0);
+    }
+
+    private void map(int capacity) {
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.studyproject.repositories.sharded;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Hands out ids whose residue encodes the owning shard: {@code shardOf(id) == (id - 1) mod shardCount}.
+ * Each shard keeps a {@code user_id_blocks} counter; an instance reserves a block of local sequence
+ * numbers with a compare-and-set update, so several application instances never hand out the same id.
+ */
+public class ShardAwareIdGenerator {
+
+    private final List<JdbcTemplate> shards;
+    private final int blockSize;
+    private final IdBlock[] blocks;
+
+    public ShardAwareIdGenerator(List<JdbcTemplate> shards, int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Id block size must be positive");
+        }
+        this.shards = shards;
+        this.blockSize = blockSize;
+        this.blocks = new IdBlock[shards.size()];
+        for (int i = 0; i < blocks.length; i++) {
+            blocks[i] = new IdBlock();
+        }
+    }
+
+    public long nextId(int shard) {
+        IdBlock block = blocks[shard];
+        long local;
+        synchronized (block) {
+            if (block.next == block.end) {
+                long reserved = reserveBlock(shard);
+                block.next = reserved * blockSize;
+                block.end = block.next + blockSize;
+            }
+            local = block.next++;
+        }
+        return local * shards.size() + shard + 1;
+    }
+
+    public int shardOf(long id) {
+        return (int) Math.floorMod(id - 1, (long) shards.size());
+    }
+
+    private long reserveBlock(int shard) {
+        JdbcTemplate jdbc = shards.get(shard);
+        while (true) {
+            Long current = jdbc.queryForObject(
+                    "SELECT next_block FROM user_id_blocks WHERE shard_id = ?", Long.class, shard);
+            int updated = jdbc.update(
+                    "UPDATE user_id_blocks SET next_block = ? WHERE shard_id = ? AND next_block = ?",
+                    current + 1, shard, current);
+            if (updated == 1) {
+                return current;
+            }
+        }
+    }
+
+    private static final class IdBlock {
+        private long next;
+        private long end;
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.studyproject.repositories.sharded;
+
+import com.example.studyproject.exceptions.UserAlreadyExistsException;
+import com.example.studyproject.models.User;
+import com.example.studyproject.repositories.UserRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Partitions users across several datasources. A user row lives on the shard encoded in its id,
+ * while the {@code user_emails} claim for an email lives on the shard its email hashes to, so
+ * both id lookups and email checks touch exactly one shard. Claims are keyed by the lower-cased
+ * email, so addresses differing only in case land on the same shard and collide like they do in a
+ * single MySQL table. The claim is the source of truth for uniqueness: a write that loses the race for an email fails with
+ * {@link UserAlreadyExistsException} and leaves no claim behind.
+ */
+public class ShardedUserRepository implements UserRepository, AutoCloseable {
+
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    private static final RowMapper<User> USER_ROW_MAPPER = (rs, rowNum) -> User.builder()
+            .id(rs.getLong("id"))
+            .firstName(rs.getString("first_name"))
+            .lastName(rs.getString("last_name"))
+            .email(rs.getString("email"))
+            .password(rs.getString("password"))
+            .build();
+
+    private final List<DataSource> dataSources;
+    private final List<JdbcTemplate> shards;
+    private final List<TransactionTemplate> transactions;
+    private final ShardAwareIdGenerator idGenerator;
+
+    public ShardedUserRepository(List<DataSource> dataSources, int idBlockSize) {
+        this.dataSources = List.copyOf(dataSources);
+        this.shards = this.dataSources.stream().map(JdbcTemplate::new).toList();
+        this.transactions = this.dataSources.stream()
+                .map(dataSource -> new TransactionTemplate(new DataSourceTransactionManager(dataSource)))
+                .toList();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            createSchema(shard);
+        }
+        this.idGenerator = new ShardAwareIdGenerator(shards, idBlockSize);
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    public int shardForId(long id) {
+        return idGenerator.shardOf(id);
+    }
+
+    public int shardForEmail(String email) {
+        int hash = normalize(email).hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        return Math.floorMod(hash, shards.size());
+    }
+
+    @Override
+    public Optional<User> findById(Long id) {
+        List<User> users = shards.get(shardForId(id)).query(
+                "SELECT id, first_name, last_name, email, password FROM users WHERE id = ?", USER_ROW_MAPPER, id);
+        return users.stream().findFirst();
+    }
+
+    @Override
+    public List<User> findAllById(Iterable<Long> ids) {
+        List<List<Long>> idsByShard = new ArrayList<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            idsByShard.add(new ArrayList<>());
+        }
+        for (Long id : ids) {
+            idsByShard.get(shardForId(id)).add(id);
+        }
+        List<User> users = new ArrayList<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            List<Long> shardIds = idsByShard.get(shard);
+            if (!shardIds.isEmpty()) {
+                users.addAll(shards.get(shard).query("SELECT id, first_name, last_name, email, password FROM users WHERE id IN ("
+                        + String.join(", ", Collections.nCopies(shardIds.size(), "?")) + ")", USER_ROW_MAPPER, shardIds.toArray()));
+            }
+        }
+        return users;
+    }
+
+    @Override
+    public boolean existsUserByEmail(String email) {
+        Integer count = shards.get(shardForEmail(email)).queryForObject(
+                "SELECT COUNT(*) FROM user_emails WHERE email = ?", Integer.class, normalize(email));
+        return count != null && count > 0;
+    }
+
+    @Override
+    public <S extends User> S save(S user) {
+        if (user.getId() == null) {
+            insert(user);
+        } else {
+            update(user);
+        }
+        return user;
+    }
+
+    @Override
+    public void delete(User user) {
+        int shard = shardForId(user.getId());
+        String email = transactions.get(shard).execute(status -> {
+            String stored = findEmail(shard, user.getId());
+            shards.get(shard).update("DELETE FROM users WHERE id = ?", user.getId());
+            return stored;
+        });
+        if (email != null) {
+            releaseEmail(email, user.getId());
+        }
+    }
+
+    @Override
+    public void forEachUser(Consumer<User> consumer) {
+        for (JdbcTemplate shard : shards) {
+            long lastId = 0;
+            List<User> batch;
+            do {
+                batch = shard.query("SELECT id, first_name, last_name, email, password FROM users "
+                        + "WHERE id > ? ORDER BY id LIMIT " + SCAN_BATCH_SIZE, USER_ROW_MAPPER, lastId);
+                for (User user : batch) {
+                    consumer.accept(user);
+                    lastId = user.getId();
+                }
+            } while (batch.size() == SCAN_BATCH_SIZE);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : dataSources) {
+            // Shard pools may be wrapped for JDBC interception, so ask for the pool behind the proxy.
+            if (dataSource.isWrapperFor(AutoCloseable.class)) {
+                dataSource.unwrap(AutoCloseable.class).close();
+            }
+        }
+    }
+
+    private void insert(User user) {
+        int shard = shardForEmail(user.getEmail());
+        user.setId(idGenerator.nextId(shard));
+        transactions.get(shard).executeWithoutResult(status -> {
+            claimEmail(shard, user);
+            insertRow(shard, user);
+        });
+    }
+
+    // Claims and releases on the owning shard commit with the row. A claim on another shard is taken
+    // first, so a lost race fails before the row changes, and is released again if the row update fails.
+    private void update(User user) {
+        int shard = shardForId(user.getId());
+        String previousEmail = findEmail(shard, user.getId());
+        boolean emailChanged = previousEmail == null || !normalize(user.getEmail()).equals(normalize(previousEmail));
+        boolean claimElsewhere = emailChanged && shardForEmail(user.getEmail()) != shard;
+        boolean releaseElsewhere = emailChanged && previousEmail != null && shardForEmail(previousEmail) != shard;
+        if (claimElsewhere) {
+            claimEmail(shardForEmail(user.getEmail()), user);
+        }
+        try {
+            transactions.get(shard).executeWithoutResult(status -> {
+                if (emailChanged && !claimElsewhere) {
+                    claimEmail(shard, user);
+                }
+                int updated = shards.get(shard).update(
+                        "UPDATE users SET first_name = ?, last_name = ?, email = ?, password = ? WHERE id = ?",
+                        user.getFirstName(), user.getLastName(), user.getEmail(), user.getPassword(), user.getId());
+                if (updated == 0) {
+                    insertRow(shard, user);
+                }
+                if (emailChanged && previousEmail != null && !releaseElsewhere) {
+                    releaseEmail(previousEmail, user.getId());
+                }
+            });
+        } catch (RuntimeException ex) {
+            if (claimElsewhere) {
+                releaseEmail(user.getEmail(), user.getId());
+            }
+            throw ex;
+        }
+        if (releaseElsewhere) {
+            releaseEmail(previousEmail, user.getId());
+        }
+    }
+
+    private void claimEmail(int shard, User user) {
+        try {
+            shards.get(shard).update("INSERT INTO user_emails (email, user_id) VALUES (?, ?)",
+                    normalize(user.getEmail()), user.getId());
+        } catch (DuplicateKeyException ex) {
+            throw new UserAlreadyExistsException("User with email " + user.getEmail() + " already exists");
+        }
+    }
+
+    private void insertRow(int shard, User user) {
+        shards.get(shard).update(
+                "INSERT INTO users (id, first_name, last_name, email, password) VALUES (?, ?, ?, ?, ?)",
+                user.getId(), user.getFirstName(), user.getLastName(), user.getEmail(), user.getPassword());
+    }
+
+    private String findEmail(int shard, Long id) {
+        List<String> emails = shards.get(shard).queryForList("SELECT email FROM users WHERE id = ?", String.class, id);
+        return emails.isEmpty() ? null : emails.get(0);
+    }
+
+    private void releaseEmail(String email, Long userId) {
+        shards.get(shardForEmail(email)).update(
+                "DELETE FROM user_emails WHERE email = ? AND user_id = ?", normalize(email), userId);
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private void createSchema(int shard) {
+        JdbcTemplate jdbc = shards.get(shard);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS users ("
+                + "id BIGINT NOT NULL PRIMARY KEY, "
+                + "first_name VARCHAR(255), "
+                + "last_name VARCHAR(255), "
+                + "email VARCHAR(255), "
+                + "password VARCHAR(255))");
+        jdbc.execute("CREATE TABLE IF NOT EXISTS user_emails ("
+                + "email VARCHAR(255) NOT NULL PRIMARY KEY, "
+                + "user_id BIGINT NOT NULL)");
+        jdbc.execute("CREATE TABLE IF NOT EXISTS user_id_blocks ("
+                + "shard_id INT NOT NULL PRIMARY KEY, "
+                + "next_block BIGINT NOT NULL)");
+        Integer blocks = jdbc.queryForObject(
+                "SELECT COUNT(*) FROM user_id_blocks WHERE shard_id = ?", Integer.class, shard);
+        if (blocks == null || blocks == 0) {
+            jdbc.update("INSERT INTO user_id_blocks (shard_id, next_block) VALUES (?, 0)", shard);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.studyproject.repositories.sharded;
+
+import com.example.studyproject.utils.jdbc.InterceptingDataSource;
+import com.example.studyproject.utils.jdbc.JdbcInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@Configuration
+@Profile("sharded")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ShardedUserRepository shardedUserRepository(ShardingProperties properties,
+                                                       ObjectProvider<JdbcInterceptor> interceptors) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("Sharded profile requires at least one app.sharding.shards entry");
+        }
+        // The shard pools are not beans, so they are wrapped here to get deadlines and profiling.
+        List<JdbcInterceptor> registered = interceptors.orderedStream().toList();
+        List<DataSource> shards = properties.getShards().stream()
+                .map(shard -> (DataSource) DataSourceBuilder.create()
+                        .url(shard.getUrl())
+                        .username(shard.getUsername())
+                        .password(shard.getPassword())
+                        .build())
+                .map(dataSource -> InterceptingDataSource.wrap(dataSource, registered))
+                .toList();
+        return new ShardedUserRepository(shards, properties.getIdBlockSize());
+    }
+}
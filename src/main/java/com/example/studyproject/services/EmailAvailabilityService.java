@@ -0,0 +1,9 @@
+package com.example.studyproject.services;
+
+import com.example.studyproject.dto.EmailAvailabilityDTO;
+import com.example.studyproject.dto.EmailAvailabilityStatsDTO;
+
+public interface EmailAvailabilityService {
+    EmailAvailabilityDTO check(String email);
+    EmailAvailabilityStatsDTO getStats();
+}
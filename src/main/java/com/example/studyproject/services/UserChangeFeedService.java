@@ -0,0 +1,7 @@
+package com.example.studyproject.services;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface UserChangeFeedService {
+    SseEmitter subscribe(String resumeToken);
+}
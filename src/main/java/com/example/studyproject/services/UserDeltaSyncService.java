@@ -0,0 +1,8 @@
+package com.example.studyproject.services;
+
+import com.example.studyproject.dto.UserChangesPageDTO;
+import com.example.studyproject.exceptions.InvalidWatermarkException;
+
+public interface UserDeltaSyncService {
+    UserChangesPageDTO changesSince(String watermark, Integer limit) throws InvalidWatermarkException;
+}
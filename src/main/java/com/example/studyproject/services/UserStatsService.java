@@ -0,0 +1,7 @@
+package com.example.studyproject.services;
+
+import com.example.studyproject.dto.UserStatsDTO;
+
+public interface UserStatsService {
+    UserStatsDTO getStats();
+}
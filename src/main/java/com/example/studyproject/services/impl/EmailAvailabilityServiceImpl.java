@@ -0,0 +1,142 @@
+package com.example.studyproject.services.impl;
+
+import com.example.studyproject.dto.EmailAvailabilityDTO;
+import com.example.studyproject.dto.EmailAvailabilityStatsDTO;
+import com.example.studyproject.events.UserChangedEvent;
+import com.example.studyproject.models.User;
+import com.example.studyproject.repositories.UserRepository;
+import com.example.studyproject.services.EmailAvailabilityService;
+import com.example.studyproject.utils.bloom.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Answers "is this email taken" from a Bloom filter over every registered email, so a negative
+ * answer never reaches the database. Only possible hits are confirmed with the repository.
+ * Deleted emails stay in the filter until the next periodic rebuild. Emails are indexed lower-cased,
+ * since the database compares them case-insensitively and the filter must never rule out a match.
+ */
+@Service
+public class EmailAvailabilityServiceImpl implements EmailAvailabilityService {
+
+    private final UserRepository userRepository;
+    private final long expectedEmails;
+    private final double falsePositiveRate;
+    private final LongAdder checks = new LongAdder();
+    private final LongAdder answeredByFilter = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+    private volatile AtomicLong rebuildingCount;
+    private final AtomicLong indexedEmails = new AtomicLong();
+    private volatile Instant lastRebuild;
+
+    public EmailAvailabilityServiceImpl(UserRepository userRepository,
+                                        @Value("${app.email-availability.expected-emails}") long expectedEmails,
+                                        @Value("${app.email-availability.false-positive-rate}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.expectedEmails = expectedEmails;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @Override
+    public EmailAvailabilityDTO check(String email) {
+        checks.increment();
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(normalize(email))) {
+            answeredByFilter.increment();
+            return buildAvailability(email, true);
+        }
+        boolean exists = userRepository.existsUserByEmail(email);
+        if (current != null && !exists) {
+            falsePositives.increment();
+        }
+        return buildAvailability(email, !exists);
+    }
+
+    @Override
+    public EmailAvailabilityStatsDTO getStats() {
+        BloomFilter current = filter;
+        long negatives = answeredByFilter.sum();
+        long misses = falsePositives.sum();
+        return EmailAvailabilityStatsDTO.builder()
+                .ready(current != null)
+                .indexedEmails(indexedEmails.get())
+                .checks(checks.sum())
+                .answeredByFilter(negatives)
+                .falsePositives(misses)
+                .observedFalsePositiveRate(negatives + misses == 0 ? 0 : (double) misses / (negatives + misses))
+                .expectedFalsePositiveRate(current == null ? 0 : current.expectedFalsePositiveRate())
+                .lastRebuild(lastRebuild)
+                .build();
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.email-availability.rebuild-interval-millis}")
+    public void rebuild() {
+        BloomFilter next = new BloomFilter(Math.max(expectedEmails, indexedEmails.get() * 2), falsePositiveRate);
+        AtomicLong count = new AtomicLong();
+        rebuildingCount = count;
+        rebuilding = next;
+        try {
+            userRepository.forEachUser(user -> {
+                if (user.getEmail() != null) {
+                    next.put(normalize(user.getEmail()));
+                    count.incrementAndGet();
+                }
+            });
+            filter = next;
+            indexedEmails.set(count.get());
+            lastRebuild = Instant.now();
+            checks.reset();
+            answeredByFilter.reset();
+            falsePositives.reset();
+        } finally {
+            rebuilding = null;
+            rebuildingCount = null;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() == UserChangedEvent.Type.DELETED || event.getUser().getEmail() == null) {
+            return;
+        }
+        String email = normalize(event.getUser().getEmail());
+        User previous = event.getPrevious();
+        if (previous != null && previous.getEmail() != null && normalize(previous.getEmail()).equals(email)) {
+            return;
+        }
+        // Read the filter being rebuilt first: once it is cleared, it has already replaced the current one.
+        AtomicLong nextCount = rebuildingCount;
+        BloomFilter next = rebuilding;
+        BloomFilter current = filter;
+        if (next != null) {
+            next.put(email);
+            if (nextCount != null) {
+                nextCount.incrementAndGet();
+            }
+        }
+        if (current != null) {
+            current.put(email);
+            indexedEmails.incrementAndGet();
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private EmailAvailabilityDTO buildAvailability(String email, boolean available) {
+        return EmailAvailabilityDTO.builder()
+                .email(email)
+                .available(available)
+                .build();
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.studyproject.services.impl;
+
+import com.example.studyproject.dto.UserChangeDTO;
+import com.example.studyproject.dto.UserSummaryDTO;
+import com.example.studyproject.events.UserChangedEvent;
+import com.example.studyproject.services.UserChangeFeedService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans committed user changes out to SSE subscribers. Every change gets a resume token
+ * ({@code <epoch>-<sequence>}) and is kept in a bounded history, so a reconnecting client can
+ * pass its last token and replay what it missed. Publishers only ever enqueue into bounded
+ * per-subscriber buffers; a subscriber whose buffer overflows is disconnected and has to resume.
+ */
+@Service
+public class UserChangeFeedServiceImpl implements UserChangeFeedService {
+
+    private static final String RESET_EVENT = "reset";
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Deque<Change> history = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final int historySize;
+    private final int subscriberBufferSize;
+    private final long emitterTimeoutMillis;
+    private final Executor sender;
+    private long sequence;
+
+    @Autowired
+    public UserChangeFeedServiceImpl(@Value("${app.user-changes.history-size}") int historySize,
+                                     @Value("${app.user-changes.subscriber-buffer-size}") int subscriberBufferSize,
+                                     @Value("${app.user-changes.emitter-timeout-millis}") long emitterTimeoutMillis,
+                                     @Value("${app.user-changes.sender-threads}") int senderThreads) {
+        this(historySize, subscriberBufferSize, emitterTimeoutMillis, Executors.newFixedThreadPool(senderThreads));
+    }
+
+    public UserChangeFeedServiceImpl(int historySize, int subscriberBufferSize, long emitterTimeoutMillis, Executor sender) {
+        this.historySize = historySize;
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.sender = sender;
+    }
+
+    @Override
+    public SseEmitter subscribe(String resumeToken) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        synchronized (history) {
+            List<Change> replay = replayAfter(resumeToken);
+            Subscriber subscriber = new Subscriber(emitter, subscriberBufferSize + replay.size());
+            emitter.onCompletion(() -> subscribers.remove(subscriber));
+            emitter.onTimeout(() -> subscribers.remove(subscriber));
+            emitter.onError(ex -> subscribers.remove(subscriber));
+            replay.forEach(subscriber::offer);
+            subscribers.add(subscriber);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        UserChangeDTO userChangeDTO = UserChangeDTO.builder()
+                .type(event.getType().name().toLowerCase())
+                .userId(event.getUser().getId())
+                .user(event.getType() == UserChangedEvent.Type.DELETED ? null : UserSummaryDTO.of(event.getUser()))
+                .build();
+        synchronized (history) {
+            Change change = new Change(++sequence, userChangeDTO.getType(), userChangeDTO);
+            history.addLast(change);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.offer(change)) {
+                    subscribers.remove(subscriber);
+                }
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private List<Change> replayAfter(String resumeToken) {
+        List<Change> replay = new ArrayList<>();
+        if (resumeToken == null || resumeToken.isBlank()) {
+            return replay;
+        }
+        long lastSequence = parseSequence(resumeToken);
+        long oldestRetained = history.isEmpty() ? sequence + 1 : history.peekFirst().sequence();
+        if (lastSequence < 0 || lastSequence > sequence || lastSequence + 1 < oldestRetained) {
+            replay.add(new Change(sequence, RESET_EVENT, RESET_EVENT));
+            return replay;
+        }
+        for (Change change : history) {
+            if (change.sequence() > lastSequence) {
+                replay.add(change);
+            }
+        }
+        return replay;
+    }
+
+    private long parseSequence(String resumeToken) {
+        int separator = resumeToken.lastIndexOf('-');
+        if (separator < 0 || !resumeToken.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(resumeToken.substring(separator + 1));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    private record Change(long sequence, String name, Object data) {
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Change> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+        private boolean completed;
+
+        private Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        }
+
+        private boolean offer(Change change) {
+            if (!closed && !buffer.offer(change)) {
+                closed = true;
+            }
+            schedule();
+            return !closed;
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Change change;
+                while (!closed && (change = buffer.poll()) != null) {
+                    emitter.send(SseEmitter.event()
+                            .id(epoch + "-" + change.sequence())
+                            .name(change.name())
+                            .data(change.data(), MediaType.APPLICATION_JSON));
+                }
+                if (closed && !completed) {
+                    completed = true;
+                    buffer.clear();
+                    emitter.complete();
+                }
+            } catch (Exception ex) {
+                closed = true;
+                completed = true;
+                subscribers.remove(this);
+                emitter.completeWithError(ex);
+            } finally {
+                scheduled.set(false);
+                if (!completed && (closed || !buffer.isEmpty())) {
+                    schedule();
+                }
+            }
+        }
+    }
+}
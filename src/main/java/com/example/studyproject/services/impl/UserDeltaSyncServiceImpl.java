@@ -0,0 +1,152 @@
+package com.example.studyproject.services.impl;
+
+import com.example.studyproject.dto.UserChangeDTO;
+import com.example.studyproject.dto.UserChangesPageDTO;
+import com.example.studyproject.dto.UserSummaryDTO;
+import com.example.studyproject.events.UserChangedEvent;
+import com.example.studyproject.exceptions.InvalidWatermarkException;
+import com.example.studyproject.models.User;
+import com.example.studyproject.models.UserTombstone;
+import com.example.studyproject.repositories.JpaUserRepository;
+import com.example.studyproject.repositories.UserTombstoneRepository;
+import com.example.studyproject.services.UserDeltaSyncService;
+import com.example.studyproject.utils.deadline.RequestDeadlineProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pages through users and tombstones ordered by {@code (changedAt, id)}. The watermark is the
+ * position of the last returned change, {@code epochMicros:id}, so a page boundary never splits
+ * rows that share a timestamp. Changes younger than the settle window are held back until
+ * concurrent writes stamped before them have committed; otherwise a client could move its
+ * watermark past a row that is not visible yet. A write commits at most one request deadline after
+ * it was stamped, plus up to a second while its last statement is cancelled, so the window must
+ * cover that; with deadlines disabled the bound is whatever the configured window is.
+ */
+@Service
+@ConditionalOnProperty(name = "app.delta-sync.enabled", havingValue = "true", matchIfMissing = true)
+public class UserDeltaSyncServiceImpl implements UserDeltaSyncService {
+
+    private final JpaUserRepository userRepository;
+    private final UserTombstoneRepository tombstoneRepository;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final long settleMillis;
+    private final long tombstoneRetentionMillis;
+
+    public UserDeltaSyncServiceImpl(JpaUserRepository userRepository,
+                                    UserTombstoneRepository tombstoneRepository,
+                                    @Value("${app.delta-sync.default-page-size}") int defaultPageSize,
+                                    @Value("${app.delta-sync.max-page-size}") int maxPageSize,
+                                    @Value("${app.delta-sync.settle-millis}") long settleMillis,
+                                    @Value("${app.delta-sync.tombstone-retention-millis}") long tombstoneRetentionMillis,
+                                    RequestDeadlineProperties deadlineProperties) {
+        long minSettleMillis = deadlineProperties.getMaxTimeoutMillis() + 1000;
+        if (deadlineProperties.isEnabled() && settleMillis < minSettleMillis) {
+            throw new IllegalStateException("app.delta-sync.settle-millis must be at least " + minSettleMillis
+                    + " ms, the longest request deadline plus the query timeout granularity");
+        }
+        this.userRepository = userRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.settleMillis = settleMillis;
+        this.tombstoneRetentionMillis = tombstoneRetentionMillis;
+    }
+
+    @Override
+    public UserChangesPageDTO changesSince(String watermark, Integer limit) throws InvalidWatermarkException {
+        Instant since = Instant.EPOCH;
+        long sinceId = 0;
+        if (watermark != null && !watermark.isBlank()) {
+            int separator = watermark.indexOf(':');
+            try {
+                since = fromEpochMicros(Long.parseLong(watermark.substring(0, separator)));
+                sinceId = Long.parseLong(watermark.substring(separator + 1));
+            } catch (RuntimeException ex) {
+                throw new InvalidWatermarkException("Invalid watermark " + watermark);
+            }
+        }
+        int pageSize = Math.min(maxPageSize, Math.max(1, limit != null ? limit : defaultPageSize));
+        Instant now = Instant.now();
+        Instant until = now.minusMillis(settleMillis);
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+        List<User> users = userRepository.findChangedSince(since, sinceId, until, page);
+        List<UserTombstone> tombstones = tombstoneRepository.findDeletedSince(since, sinceId, until, page);
+
+        List<UserChangeDTO> changes = new ArrayList<>(Math.min(pageSize, users.size() + tombstones.size()));
+        Instant lastChangedAt = since;
+        long lastId = sinceId;
+        int userIndex = 0;
+        int tombstoneIndex = 0;
+        while (changes.size() < pageSize && (userIndex < users.size() || tombstoneIndex < tombstones.size())) {
+            User user = userIndex < users.size() ? users.get(userIndex) : null;
+            UserTombstone tombstone = tombstoneIndex < tombstones.size() ? tombstones.get(tombstoneIndex) : null;
+            if (tombstone == null || (user != null && compare(user.getUpdatedAt(), user.getId(), tombstone.getDeletedAt(), tombstone.getUserId()) < 0)) {
+                changes.add(UserChangeDTO.builder()
+                        .type(user.getUpdatedAt().equals(user.getCreatedAt()) ? "created" : "updated")
+                        .userId(user.getId())
+                        .user(UserSummaryDTO.of(user))
+                        .build());
+                lastChangedAt = user.getUpdatedAt();
+                lastId = user.getId();
+                userIndex++;
+            } else {
+                changes.add(UserChangeDTO.builder()
+                        .type("deleted")
+                        .userId(tombstone.getUserId())
+                        .build());
+                lastChangedAt = tombstone.getDeletedAt();
+                lastId = tombstone.getUserId();
+                tombstoneIndex++;
+            }
+        }
+        return UserChangesPageDTO.builder()
+                .changes(changes)
+                .watermark(toEpochMicros(lastChangedAt) + ":" + lastId)
+                .hasMore(users.size() + tombstones.size() > changes.size())
+                .resyncRequired(watermark != null && !watermark.isBlank()
+                        && since.isBefore(now.minusMillis(tombstoneRetentionMillis)))
+                .build();
+    }
+
+    // Runs in the transaction of the delete, so the row and its tombstone commit or roll back together.
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getType() != UserChangedEvent.Type.DELETED) {
+            return;
+        }
+        User user = event.getUser();
+        tombstoneRepository.save(UserTombstone.builder()
+                .userId(user.getId())
+                .deletedAt(user.getUpdatedAt() != null ? user.getUpdatedAt() : Instant.now().truncatedTo(ChronoUnit.MICROS))
+                .build());
+    }
+
+    @Scheduled(fixedDelayString = "${app.delta-sync.tombstone-purge-interval-millis}")
+    public void purgeTombstones() {
+        tombstoneRepository.deleteByDeletedAtBefore(Instant.now().minusMillis(tombstoneRetentionMillis));
+    }
+
+    private static int compare(Instant changedAt, long id, Instant otherChangedAt, long otherId) {
+        int result = changedAt.compareTo(otherChangedAt);
+        return result != 0 ? result : Long.compare(id, otherId);
+    }
+
+    private static long toEpochMicros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    private static Instant fromEpochMicros(long epochMicros) {
+        return Instant.EPOCH.plus(epochMicros, ChronoUnit.MICROS);
+    }
+}
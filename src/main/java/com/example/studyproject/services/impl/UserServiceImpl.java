@@ -1,20 +1,30 @@
 package com.example.studyproject.services.impl;
 
+import com.example.studyproject.cache.UserCacheConfig;
 import com.example.studyproject.dto.UserDTO;
+import com.example.studyproject.events.UserChangedEvent;
 import com.example.studyproject.exceptions.UserAlreadyExistsException;
 import com.example.studyproject.exceptions.UserNotFoundException;
 import com.example.studyproject.models.User;
 import com.example.studyproject.repositories.UserRepository;
 import com.example.studyproject.services.UserService;
 import com.example.studyproject.utils.converter.UserDTOToUserConverter;
+import com.example.studyproject.utils.deadline.RequestDeadline;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 
 @Service
 @RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Override
@@ -22,20 +32,33 @@ public class UserServiceImpl implements UserService {
         if(userRepository.existsUserByEmail(userDTO.getEmail())){
             throw new UserAlreadyExistsException("User with email " + userDTO.getEmail() + " already exists");
         }
-        return userRepository.save(UserDTOToUserConverter.convertUserDTOToUser(userDTO));
+        User user = UserDTOToUserConverter.convertUserDTOToUser(userDTO);
+        Instant now = now();
+        user.setCreatedAt(now);
+        user.setUpdatedAt(now);
+        RequestDeadline.checkCurrent();
+        User createdUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.created(createdUser));
+        return createdUser;
     }
 
+    // Loaded under the cache's per-key lock, so an invalidation after a commit waits for a concurrent load.
     @Override
+    @Cacheable(cacheNames = UserCacheConfig.USERS_CACHE, sync = true)
     public User getById(Long userId) throws UserNotFoundException {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User with id " + userId + " not found"));
     }
 
+    // Listeners that must not outlive a rolled back delete, such as the delta-sync tombstone, join this transaction.
     @Override
+    @Transactional
     public void deleteById(Long userId) throws UserNotFoundException {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("User with id " + userId + " not found"));
+        RequestDeadline.checkCurrent();
         userRepository.delete(user);
+        eventPublisher.publishEvent(UserChangedEvent.deleted(user.toBuilder().updatedAt(now()).build()));
     }
 
     @Override
@@ -45,6 +68,18 @@ public class UserServiceImpl implements UserService {
         if(!existingUser.getEmail().equals(userDTO.getEmail()) && userRepository.existsUserByEmail(userDTO.getEmail())) {
             throw new UserAlreadyExistsException("User with email " + userDTO.getEmail() + " already exists");
         }
-        return userRepository.save(UserDTOToUserConverter.convertUserDTOToUser(userDTO));
+        User previousUser = existingUser.toBuilder().build();
+        User user = UserDTOToUserConverter.convertUserDTOToUser(userDTO);
+        user.setCreatedAt(existingUser.getCreatedAt());
+        user.setUpdatedAt(now());
+        RequestDeadline.checkCurrent();
+        User editedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(previousUser, editedUser));
+        return editedUser;
+    }
+
+    // Stored with microsecond precision, so the in-memory value matches what the database returns.
+    private static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
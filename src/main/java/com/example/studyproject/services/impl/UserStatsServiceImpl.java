@@ -0,0 +1,176 @@
+package com.example.studyproject.services.impl;
+
+import com.example.studyproject.dto.UserStatsDTO;
+import com.example.studyproject.events.UserChangedEvent;
+import com.example.studyproject.models.User;
+import com.example.studyproject.repositories.UserRepository;
+import com.example.studyproject.services.UserStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps user counts in striped counters updated from committed {@link UserChangedEvent}s, so
+ * reading the statistics never touches the database. The counters are rebuilt by a full scan
+ * at startup and on every reconcile. Outside a reconcile, events update the counters without
+ * locking. Changes committed while a scan runs are also recorded per user id, and before the
+ * scanned counters replace the live ones, whatever the scan counted for those users is replaced
+ * by their last recorded state, so concurrent writes are neither lost nor counted twice.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserStatsServiceImpl implements UserStatsService {
+
+    private final UserRepository userRepository;
+    private final Object lock = new Object();
+    private volatile State state = new State(new Counters(), null);
+    private volatile boolean ready;
+    private volatile Instant lastReconcile;
+    private volatile long lastReconcileCorrection;
+
+    @Override
+    public UserStatsDTO getStats() {
+        Counters current = state.counters;
+        Map<String, Long> usersByDomain = new TreeMap<>();
+        current.byDomain.forEach((domain, count) -> {
+            long value = count.sum();
+            if (value != 0) {
+                usersByDomain.put(domain, value);
+            }
+        });
+        return UserStatsDTO.builder()
+                .ready(ready)
+                .totalUsers(current.total.sum())
+                .usersByDomain(usersByDomain)
+                .lastReconcile(lastReconcile)
+                .lastReconcileCorrection(lastReconcileCorrection)
+                .build();
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.user-stats.reconcile-interval-millis}")
+    public void reconcile() {
+        Reconcile reconcile = new Reconcile();
+        synchronized (lock) {
+            state = new State(state.counters, reconcile);
+        }
+        try {
+            userRepository.forEachUser(reconcile::scan);
+            synchronized (lock) {
+                Counters scanned = reconcile.merge();
+                long previousTotal = state.counters.total.sum();
+                state = new State(scanned, null);
+                lastReconcileCorrection = ready ? scanned.total.sum() - previousTotal : 0;
+                lastReconcile = Instant.now();
+                ready = true;
+            }
+        } finally {
+            synchronized (lock) {
+                if (state.reconciling != null) {
+                    state = new State(state.counters, null);
+                }
+            }
+        }
+    }
+
+    // The counters and the running reconcile are read together, so an event seen outside a reconcile
+    // either lands in the live counters or was committed before the next scan started.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        State current = state;
+        if (current.reconciling == null) {
+            apply(current.counters, event);
+            return;
+        }
+        synchronized (lock) {
+            current = state;
+            apply(current.counters, event);
+            if (current.reconciling != null) {
+                current.reconciling.record(event);
+            }
+        }
+    }
+
+    private static void apply(Counters counters, UserChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> counters.add(domainOf(event.getUser()), 1);
+            case DELETED -> counters.add(domainOf(event.getUser()), -1);
+            case UPDATED -> {
+                String previousDomain = domainOf(event.getPrevious());
+                String domain = domainOf(event.getUser());
+                if (!previousDomain.equals(domain)) {
+                    counters.domain(previousDomain).decrement();
+                    counters.domain(domain).increment();
+                }
+            }
+        }
+    }
+
+    static String domainOf(User user) {
+        String email = user.getEmail();
+        int at = email == null ? -1 : email.lastIndexOf('@');
+        return at < 0 ? "" : email.substring(at + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Counters {
+
+        private final LongAdder total = new LongAdder();
+        private final ConcurrentHashMap<String, LongAdder> byDomain = new ConcurrentHashMap<>();
+
+        void add(String domain, int delta) {
+            total.add(delta);
+            domain(domain).add(delta);
+        }
+
+        LongAdder domain(String domain) {
+            LongAdder count = byDomain.get(domain);
+            return count != null ? count : byDomain.computeIfAbsent(domain, key -> new LongAdder());
+        }
+    }
+
+    private record State(Counters counters, Reconcile reconciling) {
+    }
+
+    /**
+     * A scan in progress. It keeps the domain the scan counted for every user it read and the domain
+     * after the last change of every user changed during the scan; an empty value means the user was
+     * deleted.
+     */
+    private static final class Reconcile {
+
+        private final Counters scanned = new Counters();
+        private final ConcurrentHashMap<Long, String> counted = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Long, Optional<String>> after = new ConcurrentHashMap<>();
+
+        void scan(User user) {
+            String domain = domainOf(user);
+            scanned.add(domain, 1);
+            counted.put(user.getId(), domain);
+        }
+
+        void record(UserChangedEvent event) {
+            after.put(event.getUser().getId(), event.getType() == UserChangedEvent.Type.DELETED
+                    ? Optional.empty() : Optional.of(domainOf(event.getUser())));
+        }
+
+        // Whether the scan read a changed user before or after its change, its last change wins.
+        Counters merge() {
+            after.forEach((id, domain) -> {
+                String previous = counted.get(id);
+                if (previous != null) {
+                    scanned.add(previous, -1);
+                }
+                domain.ifPresent(current -> scanned.add(current, 1));
+            });
+            return scanned;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.studyproject.utils.deadline;
+
+import com.example.studyproject.utils.jdbc.ConnectionRequest;
+import com.example.studyproject.utils.jdbc.JdbcInterceptor;
+import com.example.studyproject.utils.jdbc.StatementExecution;
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Applies the current {@link RequestDeadline} to JDBC: waiting for a pooled connection is bounded
+ * by the time left, and every statement gets a query timeout of the time left rounded up to whole
+ * seconds, the granularity JDBC offers. Work that is refused or cancelled because the deadline
+ * passed surfaces as a {@link com.example.studyproject.exceptions.DeadlineExceededException}.
+ */
+@RequiredArgsConstructor
+class DeadlineJdbcInterceptor implements JdbcInterceptor {
+
+    private final RequestDeadlineMetrics metrics;
+
+    @Override
+    public Connection getConnection(ConnectionRequest request) throws SQLException {
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline == null) {
+            return request.proceed();
+        }
+        if (deadline.isExpired()) {
+            metrics.recordConnectionTimeout();
+            throw deadline.exceeded(null);
+        }
+        try {
+            return request.proceed(deadline.remainingMillis());
+        } catch (SQLException ex) {
+            if (!deadline.isExpired()) {
+                throw ex;
+            }
+            metrics.recordConnectionTimeout();
+            throw deadline.exceeded(ex);
+        }
+    }
+
+    @Override
+    public Object execute(StatementExecution execution) throws SQLException {
+        RequestDeadline deadline = RequestDeadline.current();
+        if (deadline == null) {
+            return execution.proceed();
+        }
+        if (deadline.isExpired()) {
+            metrics.recordRejectedStatement();
+            throw deadline.exceeded(null);
+        }
+        Statement statement = execution.getStatement();
+        int timeoutSeconds = (int) Math.max(1, (deadline.remainingMillis() + 999) / 1000);
+        if (statement.getQueryTimeout() == 0 || statement.getQueryTimeout() > timeoutSeconds) {
+            statement.setQueryTimeout(timeoutSeconds);
+        }
+        long start = System.nanoTime();
+        try {
+            Object result = execution.proceed();
+            metrics.recordCompletedStatement(System.nanoTime() - start);
+            return result;
+        } catch (SQLException ex) {
+            if (!deadline.isExpired()) {
+                throw ex;
+            }
+            metrics.recordCancelledStatement(System.nanoTime() - start);
+            throw deadline.exceeded(ex);
+        }
+    }
+}
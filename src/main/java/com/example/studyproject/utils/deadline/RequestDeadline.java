@@ -0,0 +1,75 @@
+package com.example.studyproject.utils.deadline;
+
+import com.example.studyproject.exceptions.DeadlineExceededException;
+import lombok.Getter;
+
+/**
+ * Deadline of the request running on the current thread. It is set by {@link RequestDeadlineFilter}
+ * and read where the request reaches the database, so the service and repository layers inherit it
+ * without extra parameters. Work outside a request, such as scheduled tasks, sees null and is never
+ * limited.
+ */
+public class RequestDeadline {
+
+    private static final ThreadLocal<RequestDeadline> CURRENT = new ThreadLocal<>();
+
+    @Getter
+    private final long timeoutMillis;
+    private final long deadlineNanos;
+
+    private RequestDeadline(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+        this.deadlineNanos = System.nanoTime() + timeoutMillis * 1_000_000;
+    }
+
+    public static RequestDeadline current() {
+        return CURRENT.get();
+    }
+
+    static RequestDeadline start(long timeoutMillis) {
+        RequestDeadline deadline = new RequestDeadline(timeoutMillis);
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public static void checkCurrent() {
+        RequestDeadline deadline = CURRENT.get();
+        if (deadline != null && deadline.isExpired()) {
+            throw deadline.exceeded(null);
+        }
+    }
+
+    /**
+     * Runs follow-up work of a committed write, which must not be cut short once the write it
+     * belongs to can no longer be undone.
+     */
+    public static void runWithout(Runnable action) {
+        RequestDeadline deadline = CURRENT.get();
+        CURRENT.remove();
+        try {
+            action.run();
+        } finally {
+            if (deadline != null) {
+                CURRENT.set(deadline);
+            }
+        }
+    }
+
+    public boolean isExpired() {
+        return System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    // Rounded up, so a wait bounded by this value always ends at or after the deadline.
+    public long remainingMillis() {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        return remainingNanos <= 0 ? 0 : (remainingNanos + 999_999) / 1_000_000;
+    }
+
+    public DeadlineExceededException exceeded(Throwable cause) {
+        return new DeadlineExceededException("Request deadline of " + timeoutMillis + " ms exceeded", cause);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.studyproject.utils.deadline;
+
+import com.example.studyproject.utils.jdbc.JdbcInterceptor;
+import com.example.studyproject.utils.profiling.ProfilingConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(RequestDeadlineProperties.class)
+public class RequestDeadlineConfig implements WebMvcConfigurer {
+
+    // Inside the profiling filter, so a profiled request also covers the time spent on its deadline.
+    public static final int FILTER_ORDER = ProfilingConfig.FILTER_ORDER + 1;
+
+    @Bean
+    public RequestDeadlineMetrics requestDeadlineMetrics() {
+        return new RequestDeadlineMetrics();
+    }
+
+    // Without the interceptor a disabled deadline leaves the DataSource unwrapped.
+    @Bean
+    @ConditionalOnProperty(name = "app.request-deadline.enabled", havingValue = "true", matchIfMissing = true)
+    public JdbcInterceptor requestDeadlineJdbcInterceptor(RequestDeadlineMetrics metrics) {
+        return new DeadlineJdbcInterceptor(metrics);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilter(RequestDeadlineProperties properties,
+                                                                               RequestDeadlineMetrics metrics) {
+        FilterRegistrationBean<RequestDeadlineFilter> registration =
+                new FilterRegistrationBean<>(new RequestDeadlineFilter(properties, metrics));
+        registration.setOrder(FILTER_ORDER);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StreamingHandlerDeadlineInterceptor());
+    }
+}
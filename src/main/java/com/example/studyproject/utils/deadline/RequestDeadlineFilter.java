@@ -0,0 +1,59 @@
+package com.example.studyproject.utils.deadline;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Starts the deadline of every request from the configured header, in milliseconds, or the default
+ * when the header is missing or invalid. Clients can shorten the deadline but not extend it past
+ * the configured maximum. Handlers that stream their response have the deadline lifted by
+ * {@link StreamingHandlerDeadlineInterceptor}.
+ */
+@RequiredArgsConstructor
+class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    private final RequestDeadlineProperties properties;
+    private final RequestDeadlineMetrics metrics;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!properties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        RequestDeadline.start(timeoutMillis(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestDeadline.end();
+        }
+        // An async response has no final status yet when the request thread leaves the chain.
+        if (!request.isAsyncStarted() && response.getStatus() == HttpStatus.GATEWAY_TIMEOUT.value()) {
+            metrics.recordExceededRequest();
+        }
+    }
+
+    long timeoutMillis(HttpServletRequest request) {
+        String header = request.getHeader(properties.getHeader());
+        if (StringUtils.hasText(header)) {
+            try {
+                long timeoutMillis = Long.parseLong(header.trim());
+                if (timeoutMillis > 0) {
+                    return Math.min(timeoutMillis, properties.getMaxTimeoutMillis());
+                }
+            } catch (NumberFormatException ignored) {
+                // fall back to the default
+            }
+        }
+        return properties.getDefaultTimeoutMillis();
+    }
+}
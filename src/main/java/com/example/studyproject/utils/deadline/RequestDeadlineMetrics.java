@@ -0,0 +1,58 @@
+package com.example.studyproject.utils.deadline;
+
+import com.example.studyproject.dto.RequestDeadlineStatsDTO;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the database work given up because a request deadline passed. The saved time is an
+ * estimate: every statement that was skipped, cancelled or never got a connection is credited with
+ * the mean duration of the statements that completed within their deadline.
+ */
+public class RequestDeadlineMetrics {
+
+    private final LongAdder exceededRequests = new LongAdder();
+    private final LongAdder completedStatements = new LongAdder();
+    private final LongAdder completedStatementNanos = new LongAdder();
+    private final LongAdder rejectedStatements = new LongAdder();
+    private final LongAdder cancelledStatements = new LongAdder();
+    private final LongAdder cancelledStatementNanos = new LongAdder();
+    private final LongAdder connectionTimeouts = new LongAdder();
+
+    void recordExceededRequest() {
+        exceededRequests.increment();
+    }
+
+    void recordCompletedStatement(long nanos) {
+        completedStatements.increment();
+        completedStatementNanos.add(nanos);
+    }
+
+    void recordRejectedStatement() {
+        rejectedStatements.increment();
+    }
+
+    void recordCancelledStatement(long nanos) {
+        cancelledStatements.increment();
+        cancelledStatementNanos.add(nanos);
+    }
+
+    void recordConnectionTimeout() {
+        connectionTimeouts.increment();
+    }
+
+    public RequestDeadlineStatsDTO getStats() {
+        long completed = completedStatements.sum();
+        double meanStatementMillis = completed == 0 ? 0 : completedStatementNanos.sum() / 1_000_000.0 / completed;
+        long abandoned = rejectedStatements.sum() + cancelledStatements.sum() + connectionTimeouts.sum();
+        return RequestDeadlineStatsDTO.builder()
+                .exceededRequests(exceededRequests.sum())
+                .rejectedStatements(rejectedStatements.sum())
+                .cancelledStatements(cancelledStatements.sum())
+                .connectionTimeouts(connectionTimeouts.sum())
+                .cancelledStatementMillis(cancelledStatementNanos.sum() / 1_000_000)
+                .meanStatementMillis(meanStatementMillis)
+                .estimatedDbTimeSavedMillis(Math.round(abandoned * meanStatementMillis))
+                .build();
+    }
+}
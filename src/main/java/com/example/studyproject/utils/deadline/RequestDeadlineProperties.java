@@ -0,0 +1,26 @@
+package com.example.studyproject.utils.deadline;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Deadlines are enforced to the millisecond while waiting for a connection, but a running
+ * statement can only be cancelled through the JDBC query timeout, which has whole seconds as its
+ * unit and is rounded up. A statement may therefore overrun a deadline by up to a second before it
+ * is cancelled, so configured timeouts below a second are rejected. Shorter client timeouts are
+ * still honoured for connection waits and statements that start after the deadline.
+ */
+@Data
+@Validated
+@ConfigurationProperties(prefix = "app.request-deadline")
+public class RequestDeadlineProperties {
+
+    private boolean enabled = true;
+    private String header = "X-Request-Timeout";
+    @Min(1000)
+    private long defaultTimeoutMillis = 10000;
+    @Min(1000)
+    private long maxTimeoutMillis = 30000;
+}
@@ -0,0 +1,42 @@
+package com.example.studyproject.utils.deadline;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Collection;
+
+/**
+ * Lifts the deadline once the request is mapped to a handler that streams its response, such as
+ * the event stream of user changes. Such responses are long-lived by design, whatever the client
+ * sent in its Accept header.
+ */
+class StreamingHandlerDeadlineInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (isStreaming(request, handler)) {
+            RequestDeadline.end();
+        }
+        return true;
+    }
+
+    static boolean isStreaming(HttpServletRequest request, Object handler) {
+        if (request.getAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE) instanceof Collection<?> produces
+                && produces.stream().anyMatch(type -> type instanceof MediaType mediaType
+                && MediaType.TEXT_EVENT_STREAM.includes(mediaType))) {
+            return true;
+        }
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return false;
+        }
+        Class<?> returnType = handlerMethod.getReturnType().getParameterType();
+        return ResponseBodyEmitter.class.isAssignableFrom(returnType)
+                || StreamingResponseBody.class.isAssignableFrom(returnType);
+    }
+}
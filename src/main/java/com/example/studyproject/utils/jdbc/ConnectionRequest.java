@@ -0,0 +1,54 @@
+package com.example.studyproject.utils.jdbc;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * A {@link DataSource#getConnection()} call passing through the registered interceptors.
+ */
+public final class ConnectionRequest {
+
+    private final DataSource dataSource;
+    private final Method method;
+    private final Object[] args;
+    private final List<JdbcInterceptor> interceptors;
+    private int next;
+    private long maxWaitMillis = -1;
+
+    ConnectionRequest(DataSource dataSource, Method method, Object[] args, List<JdbcInterceptor> interceptors) {
+        this.dataSource = dataSource;
+        this.method = method;
+        this.args = args;
+        this.interceptors = interceptors;
+    }
+
+    public Connection proceed() throws SQLException {
+        if (next < interceptors.size()) {
+            return interceptors.get(next++).getConnection(this);
+        }
+        HikariPool pool = maxWaitMillis >= 0 && args == null ? hikariPool() : null;
+        return pool != null ? pool.getConnection(maxWaitMillis) : (Connection) InterceptingDataSource.invoke(dataSource, method, args);
+    }
+
+    /**
+     * Proceeds, waiting at most the given time for a pooled connection. The bound is only honoured
+     * by a Hikari pool; other data sources keep their own timeout.
+     */
+    public Connection proceed(long maxWaitMillis) throws SQLException {
+        this.maxWaitMillis = this.maxWaitMillis < 0 ? maxWaitMillis : Math.min(this.maxWaitMillis, maxWaitMillis);
+        return proceed();
+    }
+
+    // Null until Hikari has started its pool on the first connection request.
+    private HikariPool hikariPool() throws SQLException {
+        return dataSource.isWrapperFor(HikariDataSource.class)
+                && dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean() instanceof HikariPool pool
+                ? pool : null;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.studyproject.utils.jdbc;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Proxies a {@link DataSource}, its connections and their statements, and routes connection
+ * requests and {@code execute*} calls through the given interceptors. All other calls go straight
+ * to the driver. DataSource beans are wrapped by {@link JdbcInterceptionConfig}; data sources built
+ * outside the context, such as shard pools, wrap themselves with {@link #wrap}.
+ */
+public final class InterceptingDataSource {
+
+    private InterceptingDataSource() {
+    }
+
+    public static DataSource wrap(DataSource dataSource, List<JdbcInterceptor> interceptors) {
+        if (interceptors.isEmpty()) {
+            return dataSource;
+        }
+        return proxy(DataSource.class, (method, args) -> {
+            Object result = method.getName().equals("getConnection")
+                    ? new ConnectionRequest(dataSource, method, args, interceptors).proceed()
+                    : invoke(dataSource, method, args);
+            return result instanceof Connection connection ? wrapConnection(connection, interceptors) : result;
+        });
+    }
+
+    private static Connection wrapConnection(Connection connection, List<JdbcInterceptor> interceptors) {
+        return proxy(Connection.class, (method, args) -> {
+            Object result = invoke(connection, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> wrapStatement(Statement.class, (Statement) result, null, interceptors);
+                case "prepareStatement" ->
+                        wrapStatement(PreparedStatement.class, (Statement) result, (String) args[0], interceptors);
+                case "prepareCall" ->
+                        wrapStatement(CallableStatement.class, (Statement) result, (String) args[0], interceptors);
+                default -> result;
+            };
+        });
+    }
+
+    private static <T extends Statement> T wrapStatement(Class<T> type, Statement statement, String preparedSql,
+                                                         List<JdbcInterceptor> interceptors) {
+        List<String> batch = new ArrayList<>();
+        return proxy(type, (method, args) -> {
+            String name = method.getName();
+            String sql = args != null && args.length > 0 && args[0] instanceof String string ? string : preparedSql;
+            if (name.equals("addBatch")) {
+                batch.add(sql);
+            } else if (name.equals("clearBatch")) {
+                batch.clear();
+            } else if (name.startsWith("execute")) {
+                StatementExecution execution =
+                        new StatementExecution(statement, method, args, sql, List.copyOf(batch), interceptors);
+                if (execution.isBatch()) {
+                    batch.clear();
+                }
+                return execution.proceed();
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    static Object invoke(Object target, Method method, Object[] args) throws SQLException {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            if (ex.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new UndeclaredThrowableException(ex.getCause());
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return (T) Proxy.newProxyInstance(InterceptingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.handle(method, args));
+    }
+
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+}
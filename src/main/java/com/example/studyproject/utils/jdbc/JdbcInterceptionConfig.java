@@ -0,0 +1,25 @@
+package com.example.studyproject.utils.jdbc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class JdbcInterceptionConfig {
+
+    // Every DataSource is wrapped once with all interceptor beans, instead of once per concern.
+    @Bean
+    public static BeanPostProcessor jdbcInterceptionPostProcessor(ObjectProvider<JdbcInterceptor> interceptors) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource
+                        ? InterceptingDataSource.wrap(dataSource, interceptors.orderedStream().toList())
+                        : bean;
+            }
+        };
+    }
+}
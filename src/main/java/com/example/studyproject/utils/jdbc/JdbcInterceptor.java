@@ -0,0 +1,21 @@
+package com.example.studyproject.utils.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A concern applied to JDBC calls, such as profiling or request deadlines. Every interceptor bean is
+ * registered on the single proxy installed by {@link JdbcInterceptionConfig} and sees each call in
+ * full, so interceptors can be added without caring about the order of the others. An interceptor
+ * passes the call on with {@code proceed}, and may time, veto or translate it around that.
+ */
+public interface JdbcInterceptor {
+
+    default Connection getConnection(ConnectionRequest request) throws SQLException {
+        return request.proceed();
+    }
+
+    default Object execute(StatementExecution execution) throws SQLException {
+        return execution.proceed();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.studyproject.utils.jdbc;
+
+import lombok.Getter;
+
+import java.lang.reflect.Method;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * An {@code execute*} call on a statement passing through the registered interceptors. The SQL is
+ * the one passed to the call or, for prepared statements, the one the statement was prepared with;
+ * a batch execution carries the SQL of every batched row instead.
+ */
+public final class StatementExecution {
+
+    @Getter
+    private final Statement statement;
+    private final Method method;
+    private final Object[] args;
+    @Getter
+    private final String sql;
+    @Getter
+    private final List<String> batch;
+    private final List<JdbcInterceptor> interceptors;
+    private int next;
+
+    StatementExecution(Statement statement, Method method, Object[] args, String sql, List<String> batch,
+                       List<JdbcInterceptor> interceptors) {
+        this.statement = statement;
+        this.method = method;
+        this.args = args;
+        this.sql = sql;
+        this.batch = batch;
+        this.interceptors = interceptors;
+    }
+
+    public boolean isBatch() {
+        return method.getName().equals("executeBatch") || method.getName().equals("executeLargeBatch");
+    }
+
+    public Object proceed() throws SQLException {
+        if (next < interceptors.size()) {
+            return interceptors.get(next++).execute(this);
+        }
+        return InterceptingDataSource.invoke(statement, method, args);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.studyproject.utils.json;
+
+import com.example.studyproject.dto.UserDTO;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+
+import static com.example.studyproject.utils.json.UserJsonFields.*;
+
+public class UserDTOJsonDeserializer extends StdDeserializer<UserDTO> {
+
+    public UserDTOJsonDeserializer() {
+        super(UserDTO.class);
+    }
+
+    @Override
+    public UserDTO deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (UserDTO) ctxt.handleUnexpectedToken(UserDTO.class, p);
+        }
+        UserDTO.UserDTOBuilder builder = UserDTO.builder();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String name = p.currentName();
+            p.nextToken();
+            switch (name) {
+                case ID -> builder.id(readLong(p, ctxt));
+                case FIRST_NAME -> builder.firstName(readString(p, ctxt));
+                case LAST_NAME -> builder.lastName(readString(p, ctxt));
+                case EMAIL -> builder.email(readString(p, ctxt));
+                case PASSWORD -> builder.password(readString(p, ctxt));
+                default -> ctxt.handleUnknownProperty(p, this, UserDTO.class, name);
+            }
+        }
+        return builder.build();
+    }
+}
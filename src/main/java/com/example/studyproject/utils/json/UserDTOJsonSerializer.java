@@ -0,0 +1,28 @@
+package com.example.studyproject.utils.json;
+
+import com.example.studyproject.dto.UserDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+import static com.example.studyproject.utils.json.UserJsonFields.*;
+
+public class UserDTOJsonSerializer extends StdSerializer<UserDTO> {
+
+    public UserDTOJsonSerializer() {
+        super(UserDTO.class);
+    }
+
+    @Override
+    public void serialize(UserDTO userDTO, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(userDTO);
+        writeLong(gen, ID_NAME, userDTO.getId());
+        writeString(gen, FIRST_NAME_NAME, userDTO.getFirstName());
+        writeString(gen, LAST_NAME_NAME, userDTO.getLastName());
+        writeString(gen, EMAIL_NAME, userDTO.getEmail());
+        writeString(gen, PASSWORD_NAME, userDTO.getPassword());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.studyproject.utils.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import java.io.IOException;
+
+/**
+ * Field names and scalar helpers shared by the hand-written {@code User}/{@code UserDTO} codecs.
+ * Names are pre-encoded once; tokens other than plain strings and integers fall back to
+ * {@link DeserializationContext#readValue} so coercions behave exactly as with the reflective mapper.
+ */
+final class UserJsonFields {
+
+    static final String ID = "id";
+    static final String FIRST_NAME = "firstName";
+    static final String LAST_NAME = "lastName";
+    static final String EMAIL = "email";
+    static final String PASSWORD = "password";
+
+    static final SerializableString ID_NAME = new SerializedString(ID);
+    static final SerializableString FIRST_NAME_NAME = new SerializedString(FIRST_NAME);
+    static final SerializableString LAST_NAME_NAME = new SerializedString(LAST_NAME);
+    static final SerializableString EMAIL_NAME = new SerializedString(EMAIL);
+    static final SerializableString PASSWORD_NAME = new SerializedString(PASSWORD);
+
+    private UserJsonFields() {
+    }
+
+    static void writeLong(JsonGenerator gen, SerializableString name, Long value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    static Long readLong(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT && p.getNumberType() != JsonParser.NumberType.BIG_INTEGER) {
+            return p.getLongValue();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ctxt.readValue(p, Long.class);
+    }
+
+    static String readString(JsonParser p, DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return p.getText();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ctxt.readValue(p, String.class);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.studyproject.utils.json;
+
+import com.example.studyproject.dto.UserDTO;
+import com.example.studyproject.models.User;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hand-written codecs for the user payloads, picked up by Spring Boot's {@code ObjectMapper}
+ * like any other {@code Module} bean. They produce and accept the same JSON as the reflective
+ * bean serializers, without introspecting the Lombok getters, constructors or builders.
+ */
+@Component
+public class UserJsonModule extends SimpleModule {
+
+    public UserJsonModule() {
+        super(UserJsonModule.class.getSimpleName());
+        addSerializer(User.class, new UserJsonSerializer());
+        addDeserializer(User.class, new UserJsonDeserializer());
+        addSerializer(UserDTO.class, new UserDTOJsonSerializer());
+        addDeserializer(UserDTO.class, new UserDTOJsonDeserializer());
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.studyproject.utils.json;
+
+import com.example.studyproject.models.User;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+import static com.example.studyproject.utils.json.UserJsonFields.*;
+
+public class UserJsonSerializer extends StdSerializer<User> {
+
+    public UserJsonSerializer() {
+        super(User.class);
+    }
+
+    @Override
+    public void serialize(User user, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(user);
+        writeLong(gen, ID_NAME, user.getId());
+        writeString(gen, FIRST_NAME_NAME, user.getFirstName());
+        writeString(gen, LAST_NAME_NAME, user.getLastName());
+        writeString(gen, EMAIL_NAME, user.getEmail());
+        writeString(gen, PASSWORD_NAME, user.getPassword());
+        gen.writeEndObject();
+    }
+}
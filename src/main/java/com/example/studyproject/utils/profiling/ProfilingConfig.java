@@ -0,0 +1,54 @@
+package com.example.studyproject.utils.profiling;
+
+import com.example.studyproject.utils.jdbc.JdbcInterceptor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.validation.Validator;
+
+@Configuration
+@EnableConfigurationProperties(ProfilingProperties.class)
+public class ProfilingConfig {
+
+    // Outermost application filter, leaving the highest precedence to filters that must wrap everything.
+    public static final int FILTER_ORDER = Ordered.HIGHEST_PRECEDENCE + 1;
+
+    @Bean
+    public FilterRegistrationBean<ProfilingFilter> profilingFilter(ProfilingProperties properties) {
+        FilterRegistrationBean<ProfilingFilter> registration = new FilterRegistrationBean<>(new ProfilingFilter(properties));
+        registration.setOrder(FILTER_ORDER);
+        return registration;
+    }
+
+    // Detailed instrumentation is only wired when some request can actually be profiled.
+    @Configuration
+    @ConditionalOnExpression("${app.profiling.enabled:false} or '${app.profiling.opt-in-token:}' != ''")
+    static class ProfilingInstrumentationConfig {
+
+        @Bean
+        public static BeanPostProcessor profilingValidatorPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return beanName.equals("mvcValidator") && bean instanceof Validator validator
+                            ? new ProfilingValidator(validator) : bean;
+                }
+            };
+        }
+
+        @Bean
+        public JdbcInterceptor profilingJdbcInterceptor() {
+            return new ProfilingJdbcInterceptor();
+        }
+
+        @Bean
+        public ProfilingJackson2HttpMessageConverter profilingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+            return new ProfilingJackson2HttpMessageConverter(objectMapper);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.studyproject.utils.profiling;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Locale;
+
+/**
+ * Logs every request slower than the configured threshold from its wall-clock time, and profiles
+ * requests in detail when profiling is enabled or the request carries the configured opt-in token.
+ * The response body of a profiled request is buffered so the {@code Server-Timing} header can still
+ * be set after JSON serialization; responses that turn out to be event streams or go async are
+ * passed through unbuffered and get neither the header nor a slow-request log.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class ProfilingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final ProfilingProperties properties;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (isProfiled(request)) {
+            doFilterProfiled(request, response, filterChain);
+            return;
+        }
+        long wallStart = System.nanoTime();
+        filterChain.doFilter(request, response);
+        long wallNanos = System.nanoTime() - wallStart;
+        if (isSlow(wallNanos) && !isStreaming(request, response)) {
+            log.warn("slow_request method={} uri={} status={} wall_ms={}", request.getMethod(), request.getRequestURI(),
+                    response.getStatus(), String.format(Locale.ROOT, "%.3f", millis(wallNanos)));
+        }
+    }
+
+    private void doFilterProfiled(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StreamingAwareResponseWrapper responseWrapper = new StreamingAwareResponseWrapper(request, response);
+        long wallStart = System.nanoTime();
+        long cpuStart = THREADS.getCurrentThreadCpuTime();
+        long allocatedStart = THREADS.getCurrentThreadAllocatedBytes();
+        RequestProfile profile = RequestProfile.start();
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } finally {
+            RequestProfile.end();
+            if (!responseWrapper.isStreaming()) {
+                long wallNanos = System.nanoTime() - wallStart;
+                long cpuNanos = THREADS.getCurrentThreadCpuTime() - cpuStart;
+                long allocatedBytes = THREADS.getCurrentThreadAllocatedBytes() - allocatedStart;
+                responseWrapper.setHeader(SERVER_TIMING, String.format(Locale.ROOT,
+                        "total;dur=%.3f, cpu;dur=%.3f, alloc;desc=\"%d bytes\", sql;dur=%.3f;desc=\"%d statements\", "
+                                + "validation;dur=%.3f, json;dur=%.3f",
+                        millis(wallNanos), millis(cpuNanos), allocatedBytes, millis(profile.getSqlNanos()),
+                        profile.getSqlStatements(), millis(profile.getValidationNanos()), millis(profile.getJsonNanos())));
+                responseWrapper.copyBodyToResponse();
+                if (isSlow(wallNanos)) {
+                    log.warn("slow_request method={} uri={} status={} wall_ms={} cpu_ms={} allocated_bytes={} sql_statements={} "
+                                    + "sql_ms={} validation_ms={} json_ms={}",
+                            request.getMethod(), request.getRequestURI(), response.getStatus(),
+                            String.format(Locale.ROOT, "%.3f", millis(wallNanos)),
+                            String.format(Locale.ROOT, "%.3f", millis(cpuNanos)), allocatedBytes, profile.getSqlStatements(),
+                            String.format(Locale.ROOT, "%.3f", millis(profile.getSqlNanos())),
+                            String.format(Locale.ROOT, "%.3f", millis(profile.getValidationNanos())),
+                            String.format(Locale.ROOT, "%.3f", millis(profile.getJsonNanos())));
+                }
+            }
+        }
+    }
+
+    private boolean isProfiled(HttpServletRequest request) {
+        if (properties.isEnabled()) {
+            return true;
+        }
+        if (!StringUtils.hasText(properties.getOptInHeader()) || !StringUtils.hasText(properties.getOptInToken())) {
+            return false;
+        }
+        String token = request.getHeader(properties.getOptInHeader());
+        return token != null && MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                properties.getOptInToken().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private boolean isSlow(long wallNanos) {
+        return wallNanos >= properties.getSlowRequestThresholdMillis() * 1_000_000;
+    }
+
+    static boolean isStreaming(HttpServletRequest request, HttpServletResponse response) {
+        String contentType = response.getContentType();
+        return request.isAsyncStarted()
+                || (contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Buffers the body unless the handler turns the response into a stream, in which case writes and
+     * flushes go straight to the client, the way Spring's own {@code ShallowEtagHeaderFilter} does.
+     */
+    private static class StreamingAwareResponseWrapper extends ContentCachingResponseWrapper {
+
+        private final HttpServletRequest request;
+
+        StreamingAwareResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        boolean isStreaming() {
+            return ProfilingFilter.isStreaming(request, this);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return isStreaming() ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return isStreaming() ? getResponse().getWriter() : super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (isStreaming()) {
+                getResponse().flushBuffer();
+            } else {
+                super.flushBuffer();
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.studyproject.utils.profiling;
+
+import com.example.studyproject.utils.jdbc.JdbcInterceptor;
+import com.example.studyproject.utils.jdbc.StatementExecution;
+
+import java.sql.SQLException;
+
+/**
+ * Counts and times every statement executed while a {@link RequestProfile} is active.
+ */
+class ProfilingJdbcInterceptor implements JdbcInterceptor {
+
+    @Override
+    public Object execute(StatementExecution execution) throws SQLException {
+        RequestProfile profile = RequestProfile.current();
+        if (profile == null) {
+            return execution.proceed();
+        }
+        long start = System.nanoTime();
+        try {
+            return execution.proceed();
+        } finally {
+            profile.addSql(System.nanoTime() - start);
+        }
+    }
+}
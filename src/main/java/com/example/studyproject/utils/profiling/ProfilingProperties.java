@@ -0,0 +1,15 @@
+package com.example.studyproject.utils.profiling;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "app.profiling")
+public class ProfilingProperties {
+
+    private boolean enabled = false;
+    private String optInHeader = "X-Profile";
+    // Requests opt in by sending this secret in the opt-in header; empty disables opting in.
+    private String optInToken = "";
+    private long slowRequestThresholdMillis = 1000;
+}
@@ -0,0 +1,60 @@
+package com.example.studyproject.utils.profiling;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+
+@RequiredArgsConstructor
+class ProfilingValidator implements SmartValidator {
+
+    private final Validator delegate;
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        RequestProfile profile = RequestProfile.current();
+        if (profile == null) {
+            delegate.validate(target, errors);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            delegate.validate(target, errors);
+        } finally {
+            profile.addValidation(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        if (!(delegate instanceof SmartValidator smartValidator)) {
+            validate(target, errors);
+            return;
+        }
+        RequestProfile profile = RequestProfile.current();
+        if (profile == null) {
+            smartValidator.validate(target, errors, validationHints);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            smartValidator.validate(target, errors, validationHints);
+        } finally {
+            profile.addValidation(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors, Object... validationHints) {
+        if (delegate instanceof SmartValidator smartValidator) {
+            smartValidator.validateValue(targetType, fieldName, value, errors, validationHints);
+        } else {
+            SmartValidator.super.validateValue(targetType, fieldName, value, errors, validationHints);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.studyproject.utils.profiling;
+
+import lombok.Getter;
+
+/**
+ * Timings collected for the request running on the current thread. Instrumentation points call
+ * {@link #current()} and do nothing when it returns null, which is all they cost for requests
+ * that are not profiled.
+ */
+@Getter
+public class RequestProfile {
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    private int sqlStatements;
+    private long sqlNanos;
+    private long validationNanos;
+    private long jsonNanos;
+
+    public static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    static RequestProfile start() {
+        RequestProfile profile = new RequestProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    public void addSql(long nanos) {
+        sqlStatements++;
+        sqlNanos += nanos;
+    }
+
+    public void addValidation(long nanos) {
+        validationNanos += nanos;
+    }
+
+    public void addJson(long nanos) {
+        jsonNanos += nanos;
+    }
+}
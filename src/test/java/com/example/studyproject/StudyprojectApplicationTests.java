@@ -1,6 +1,13 @@
 package com.example.studyproject;
 
+import com.example.studyproject.dto.UserDTO;
+import com.example.studyproject.models.User;
+import com.example.studyproject.utils.json.UserDTOJsonSerializer;
+import com.example.studyproject.utils.json.UserJsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
 
@@ -9,8 +16,19 @@ import org.springframework.test.context.TestPropertySource;
         locations = "classpath:application-integrationtest.properties")
 class StudyprojectApplicationTests {
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @Test
     void contextLoads() {
     }
 
+    @Test
+    void objectMapper_ShouldUseUserJsonCodecs() throws Exception {
+        Assertions.assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(User.class))
+                .isInstanceOf(UserJsonSerializer.class);
+        Assertions.assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(UserDTO.class))
+                .isInstanceOf(UserDTOJsonSerializer.class);
+    }
+
 }
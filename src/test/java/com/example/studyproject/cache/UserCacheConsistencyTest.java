@@ -0,0 +1,143 @@
+package com.example.studyproject.cache;
+
+import com.example.studyproject.events.UserChangedEvent;
+import com.example.studyproject.exceptions.UserNotFoundException;
+import com.example.studyproject.models.User;
+import com.example.studyproject.repositories.UserRepository;
+import com.example.studyproject.services.UserService;
+import com.example.studyproject.services.impl.UserServiceImpl;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Races a cache miss that read the row before a write committed against the invalidation that
+ * follows the commit, through the real {@code @Cacheable} proxy of {@link UserServiceImpl}.
+ */
+@SpringJUnitConfig(UserCacheConsistencyTest.Config.class)
+class UserCacheConsistencyTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserCacheWarmer userCacheWarmer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        reset(userRepository);
+        cacheManager.getCache(UserCacheConfig.USERS_CACHE).clear();
+    }
+
+    @Test
+    void onUserChanged_whenDeletedWhileLoading_doNotCacheStaleUser() throws Exception {
+        User stale = createUser("FirstName");
+
+        raceLoadWith(stale, () -> userCacheWarmer.onUserChanged(UserChangedEvent.deleted(stale)));
+
+        Assertions.assertThat(nativeCache().getIfPresent(1L)).isNull();
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+        Assertions.assertThatThrownBy(() -> userService.getById(1L)).isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    void onUserChanged_whenUpdatedWhileLoading_cacheUpdatedUser() throws Exception {
+        User stale = createUser("FirstName");
+        User edited = createUser("Changed");
+
+        raceLoadWith(stale, () -> userCacheWarmer.onUserChanged(UserChangedEvent.updated(stale, edited)));
+
+        Assertions.assertThat(nativeCache().getIfPresent(1L)).isEqualTo(edited);
+        Assertions.assertThat(userService.getById(1L)).isEqualTo(edited);
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    // The load reads the old row, then the write commits and its listener runs before the load finishes.
+    private void raceLoadWith(User stale, Runnable afterCommit) throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+        when(userRepository.findById(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            committed.await();
+            return Optional.of(stale);
+        });
+
+        Thread reader = new Thread(() -> userService.getById(1L));
+        reader.start();
+        loading.await();
+        Thread listener = new Thread(afterCommit);
+        listener.start();
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (listener.getState() == Thread.State.RUNNABLE && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        committed.countDown();
+        reader.join(5_000);
+        listener.join(5_000);
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache() {
+        return ((CaffeineCache) cacheManager.getCache(UserCacheConfig.USERS_CACHE)).getNativeCache();
+    }
+
+    private static User createUser(String firstName) {
+        return User.builder()
+                .id(1L)
+                .firstName(firstName)
+                .lastName("LastName")
+                .email("email@domain.com")
+                .password("Password1#")
+                .build();
+    }
+
+    @Configuration
+    @EnableCaching
+    static class Config {
+
+        @Bean
+        public UserRepository userRepository() {
+            return mock(UserRepository.class);
+        }
+
+        @Bean
+        public CaffeineCacheManager cacheManager() {
+            CaffeineCacheManager cacheManager = new CaffeineCacheManager(UserCacheConfig.USERS_CACHE);
+            cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(100).executor(Runnable::run));
+            return cacheManager;
+        }
+
+        @Bean
+        public UserServiceImpl userService(UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
+            return new UserServiceImpl(userRepository, eventPublisher);
+        }
+
+        @Bean
+        public UserCacheWarmer userCacheWarmer(UserRepository userRepository, CacheManager cacheManager) {
+            UserCacheProperties properties = new UserCacheProperties();
+            properties.setSnapshotFile("");
+            return new UserCacheWarmer(userRepository, cacheManager, properties, mock(TaskScheduler.class));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.studyproject.cache;
+
+import com.example.studyproject.events.UserChangedEvent;
+import com.example.studyproject.models.User;
+import com.example.studyproject.repositories.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheWarmerTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @TempDir
+    Path directory;
+
+    private UserCacheProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new UserCacheProperties();
+        properties.setSnapshotFile(directory.resolve("hot-users.bin").toString());
+        properties.setSnapshotSize(3);
+        properties.setWarmupBatchSize(2);
+    }
+
+    @Test
+    void warmUp_loadHottestIdsFromSnapshotInBatches() {
+        CaffeineCacheManager previousInstance = createCacheManager();
+        CaffeineCache previousCache = (CaffeineCache) previousInstance.getCache(UserCacheConfig.USERS_CACHE);
+        for (long id = 1; id <= 5; id++) {
+            previousCache.put(id, createUser(id));
+        }
+        for (int access = 0; access < 10; access++) {
+            previousCache.get(2L);
+            previousCache.get(4L);
+            previousCache.get(5L);
+        }
+        previousCache.getNativeCache().cleanUp();
+        new UserCacheWarmer(userRepository, previousInstance, properties, taskScheduler).writeSnapshot();
+
+        List<List<Long>> batches = new ArrayList<>();
+        when(userRepository.findAllById(any())).thenAnswer(invocation -> {
+            List<Long> ids = new ArrayList<>();
+            invocation.<Iterable<Long>>getArgument(0).forEach(ids::add);
+            batches.add(ids);
+            return ids.stream().map(this::createUser).toList();
+        });
+        CaffeineCacheManager cacheManager = createCacheManager();
+
+        int loaded = new UserCacheWarmer(userRepository, cacheManager, properties, taskScheduler).warmUp();
+
+        Assertions.assertThat(loaded).isEqualTo(3);
+        Assertions.assertThat(batches).hasSize(2);
+        Assertions.assertThat(batches.stream().flatMap(List::stream)).containsExactlyInAnyOrder(2L, 4L, 5L);
+        Cache cache = cacheManager.getCache(UserCacheConfig.USERS_CACHE);
+        Assertions.assertThat(cache.get(2L, User.class)).isEqualTo(createUser(2L));
+        Assertions.assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    void warmUp_whenBudgetExhausted_stopLoading() throws Exception {
+        new UserCacheWarmer(userRepository, seededCacheManager(), properties, taskScheduler).writeSnapshot();
+        properties.setWarmupBudgetMillis(0);
+
+        int loaded = new UserCacheWarmer(userRepository, createCacheManager(), properties, taskScheduler).warmUp();
+
+        Assertions.assertThat(loaded).isZero();
+        Assertions.assertThat(Files.exists(Path.of(properties.getSnapshotFile()))).isTrue();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void warmUp_whenSnapshotCorrupted_loadNothing() throws Exception {
+        Files.write(Path.of(properties.getSnapshotFile()), new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+        int loaded = new UserCacheWarmer(userRepository, createCacheManager(), properties, taskScheduler).warmUp();
+
+        Assertions.assertThat(loaded).isZero();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void writeSnapshot_whenCacheEmpty_keepPreviousSnapshot() throws Exception {
+        new UserCacheWarmer(userRepository, seededCacheManager(), properties, taskScheduler).writeSnapshot();
+        byte[] snapshot = Files.readAllBytes(Path.of(properties.getSnapshotFile()));
+
+        new UserCacheWarmer(userRepository, createCacheManager(), properties, taskScheduler).writeSnapshot();
+
+        Assertions.assertThat(Files.readAllBytes(Path.of(properties.getSnapshotFile()))).isEqualTo(snapshot);
+    }
+
+    @Test
+    void onUserChanged_refreshCachedUserAndEvictDeleted() {
+        CaffeineCacheManager cacheManager = seededCacheManager();
+        UserCacheWarmer userCacheWarmer = new UserCacheWarmer(userRepository, cacheManager, properties, taskScheduler);
+        User edited = createUser(1L).toBuilder().firstName("Changed").build();
+
+        userCacheWarmer.onUserChanged(UserChangedEvent.updated(createUser(1L), edited));
+        userCacheWarmer.onUserChanged(UserChangedEvent.updated(createUser(9L), createUser(9L)));
+        userCacheWarmer.onUserChanged(UserChangedEvent.deleted(createUser(2L)));
+
+        Cache cache = cacheManager.getCache(UserCacheConfig.USERS_CACHE);
+        Assertions.assertThat(cache.get(1L, User.class)).isEqualTo(edited);
+        Assertions.assertThat(cache.get(9L)).isNull();
+        Assertions.assertThat(cache.get(2L)).isNull();
+    }
+
+    private CaffeineCacheManager createCacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(UserCacheConfig.USERS_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(10).executor(Runnable::run).recordStats());
+        return cacheManager;
+    }
+
+    private CaffeineCacheManager seededCacheManager() {
+        CaffeineCacheManager cacheManager = createCacheManager();
+        for (long id = 1; id <= 3; id++) {
+            cacheManager.getCache(UserCacheConfig.USERS_CACHE).put(id, createUser(id));
+        }
+        return cacheManager;
+    }
+
+    private User createUser(Long id) {
+        return User.builder()
+                .id(id)
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email("email" + id + "@domain.com")
+                .password("Password1#")
+                .build();
+    }
+}
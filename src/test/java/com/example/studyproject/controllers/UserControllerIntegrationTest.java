@@ -1,9 +1,15 @@
 package com.example.studyproject.controllers;
 
+import com.example.studyproject.dto.EmailAvailabilityDTO;
 import com.example.studyproject.dto.UserDTO;
 import com.example.studyproject.models.User;
+import com.example.studyproject.models.UserTombstone;
+import com.example.studyproject.repositories.JpaUserRepository;
+import com.example.studyproject.repositories.UserTombstoneRepository;
 import com.example.studyproject.services.UserService;
+import com.example.studyproject.services.UserStatsService;
 import com.example.studyproject.utils.validation.ValidationError;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -11,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.TestPropertySource;
@@ -18,9 +25,11 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Instant;
 import java.util.List;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(SpringExtension.class)
@@ -40,6 +49,15 @@ public class UserControllerIntegrationTest {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserStatsService userStatsService;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @Autowired
+    private UserTombstoneRepository tombstoneRepository;
+
     @Test
     @DirtiesContext
     public void getById_ShouldReturnUser() throws Exception {
@@ -153,6 +171,18 @@ public class UserControllerIntegrationTest {
         Assertions.assertThat(mvcResult.getResponse().getContentAsString()).isEmpty();
     }
 
+    @Test
+    @DirtiesContext
+    public void deleteById_WhenTombstoneCannotBeWritten_keepUser() {
+        User user = userService.create(createDefaultUserDTO());
+        tombstoneRepository.save(UserTombstone.builder().userId(user.getId()).deletedAt(Instant.now()).build());
+
+        Assertions.assertThatThrownBy(() -> userService.deleteById(user.getId()))
+                .isInstanceOf(DataAccessException.class);
+
+        Assertions.assertThat(jpaUserRepository.existsById(user.getId())).isTrue();
+    }
+
     @Test
     @DirtiesContext
     public void deleteById_WhenUserNotFound_ShouldReturn404() throws Exception {
@@ -286,6 +316,252 @@ public class UserControllerIntegrationTest {
         Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
     }
 
+    @Test
+    @DirtiesContext
+    public void emailAvailability_whenEmailTaken_returnUnavailable() throws Exception{
+        userService.create(createDefaultUserDTO());
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/users/email-availability")
+                        .param("email", "email@domain.com"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String expectedResponse = objectMapper.writeValueAsString(EmailAvailabilityDTO.builder()
+                .email("email@domain.com")
+                .available(false)
+                .build());
+        String actualResponse = mvcResult.getResponse().getContentAsString();
+        Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
+    }
+
+    @Test
+    @DirtiesContext
+    public void emailAvailability_whenEmailFree_returnAvailable() throws Exception{
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/users/email-availability")
+                        .param("email", "free@domain.com"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        String expectedResponse = objectMapper.writeValueAsString(EmailAvailabilityDTO.builder()
+                .email("free@domain.com")
+                .available(true)
+                .build());
+        String actualResponse = mvcResult.getResponse().getContentAsString();
+        Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
+    }
+
+    @Test
+    @DirtiesContext
+    public void changesSince_returnChangesAfterWatermark() throws Exception{
+        User first = userService.create(createDefaultUserDTO());
+        User second = userService.create(UserDTO.builder()
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email("second@domain.com")
+                .password("Password1#")
+                .build());
+        userService.edit(UserDTO.builder()
+                .id(first.getId())
+                .firstName("Changed")
+                .lastName("LastName")
+                .email("email@domain.com")
+                .password("Password1#")
+                .build());
+        userService.deleteById(second.getId());
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/users/changes-since"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        JsonNode page = objectMapper.readTree(mvcResult.getResponse().getContentAsString());
+        Assertions.assertThat(page.get("changes")).hasSize(2);
+        Assertions.assertThat(page.get("changes").get(0).get("type").asText()).isEqualTo("updated");
+        Assertions.assertThat(page.get("changes").get(0).get("user").get("firstName").asText()).isEqualTo("Changed");
+        Assertions.assertThat(page.get("changes").get(0).get("user").has("password")).isFalse();
+        Assertions.assertThat(page.get("changes").get(1).get("type").asText()).isEqualTo("deleted");
+        Assertions.assertThat(page.get("changes").get(1).get("userId").asLong()).isEqualTo(second.getId());
+        Assertions.assertThat(page.get("hasMore").asBoolean()).isFalse();
+
+        String watermark = page.get("watermark").asText();
+        mvcResult = mockMvc.perform(get("/api/v1/users/changes-since")
+                        .param("watermark", watermark))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        page = objectMapper.readTree(mvcResult.getResponse().getContentAsString());
+        Assertions.assertThat(page.get("changes")).isEmpty();
+        Assertions.assertThat(page.get("watermark").asText()).isEqualTo(watermark);
+    }
+
+    @Test
+    @DirtiesContext
+    public void changesSince_whenLimitReached_returnNextPageFromWatermark() throws Exception{
+        User first = userService.create(createDefaultUserDTO());
+        User second = userService.create(UserDTO.builder()
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email("second@domain.com")
+                .password("Password1#")
+                .build());
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/users/changes-since")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        JsonNode page = objectMapper.readTree(mvcResult.getResponse().getContentAsString());
+        Assertions.assertThat(page.get("changes")).hasSize(1);
+        Assertions.assertThat(page.get("changes").get(0).get("type").asText()).isEqualTo("created");
+        Assertions.assertThat(page.get("changes").get(0).get("userId").asLong()).isEqualTo(first.getId());
+        Assertions.assertThat(page.get("hasMore").asBoolean()).isTrue();
+
+        mvcResult = mockMvc.perform(get("/api/v1/users/changes-since")
+                        .param("watermark", page.get("watermark").asText())
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        page = objectMapper.readTree(mvcResult.getResponse().getContentAsString());
+        Assertions.assertThat(page.get("changes")).hasSize(1);
+        Assertions.assertThat(page.get("changes").get(0).get("userId").asLong()).isEqualTo(second.getId());
+        Assertions.assertThat(page.get("hasMore").asBoolean()).isFalse();
+    }
+
+    @Test
+    @DirtiesContext
+    public void changesSince_whenWatermarkInvalid_return400() throws Exception{
+        ValidationError error = new ValidationError();
+        error.setErrors(List.of("Invalid watermark"));
+        String expectedResponse = objectMapper.writeValueAsString(error);
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/users/changes-since")
+                        .param("watermark", "yesterday"))
+                .andExpect(status().isBadRequest())
+                .andReturn();
+
+        String actualResponse = mvcResult.getResponse().getContentAsString();
+        Assertions.assertThat(actualResponse).isEqualTo(expectedResponse);
+    }
+
+    @Test
+    @DirtiesContext
+    public void stats_returnCountersMaintainedByWrites() throws Exception{
+        while (!userStatsService.getStats().isReady()) {
+            Thread.sleep(10);
+        }
+        userService.create(createDefaultUserDTO());
+        User second = userService.create(UserDTO.builder()
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email("second@other.com")
+                .password("Password1#")
+                .build());
+        userService.create(UserDTO.builder()
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email("third@other.com")
+                .password("Password1#")
+                .build());
+        userService.deleteById(second.getId());
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/users/stats"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        JsonNode stats = objectMapper.readTree(mvcResult.getResponse().getContentAsString());
+        Assertions.assertThat(stats.get("totalUsers").asLong()).isEqualTo(2);
+        Assertions.assertThat(stats.get("usersByDomain").get("domain.com").asLong()).isEqualTo(1);
+        Assertions.assertThat(stats.get("usersByDomain").get("other.com").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    @DirtiesContext
+    public void getById_WhenProfilingRequested_returnServerTiming() throws Exception{
+        User user = userService.create(createDefaultUserDTO());
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/users/" + user.getId())
+                        .header("X-Profile", "test-profile-token"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        Assertions.assertThat(mvcResult.getResponse().getHeader("Server-Timing"))
+                .contains("total;dur=", "cpu;dur=", "alloc;desc=", "sql;dur=", "desc=\"1 statements\"", "json;dur=");
+        Assertions.assertThat(mvcResult.getResponse().getContentAsString()).isEqualTo(objectMapper.writeValueAsString(user));
+
+        mvcResult = mockMvc.perform(get("/api/v1/users/" + user.getId()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        Assertions.assertThat(mvcResult.getResponse().getHeader("Server-Timing")).isNull();
+
+        mvcResult = mockMvc.perform(get("/api/v1/users/" + user.getId())
+                        .header("X-Profile", "1"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        Assertions.assertThat(mvcResult.getResponse().getHeader("Server-Timing")).isNull();
+    }
+
+    @Test
+    @DirtiesContext
+    public void changes_WhenProfilingRequested_streamUnbuffered() throws Exception{
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/users/changes")
+                        .header("X-Profile", "test-profile-token"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        userService.create(createDefaultUserDTO());
+
+        Assertions.assertThat(awaitContent(mvcResult, "event:created")).contains("event:created");
+        Assertions.assertThat(mvcResult.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        Assertions.assertThat(mvcResult.getResponse().getHeader("Server-Timing")).isNull();
+    }
+
+    @Test
+    @DirtiesContext
+    public void changes_streamCommittedChangesAndResumeFromLastEventId() throws Exception{
+        MvcResult live = mockMvc.perform(get("/api/v1/users/changes"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        User user = userService.create(createDefaultUserDTO());
+        String content = awaitContent(live, "\"id\":" + user.getId());
+        Assertions.assertThat(content).contains("event:created").contains("\"id\":" + user.getId())
+                .doesNotContain("password");
+        String lastEventId = content.substring(content.indexOf("id:") + 3, content.indexOf('\n', content.indexOf("id:")));
+
+        userService.edit(UserDTO.builder()
+                .id(user.getId())
+                .firstName("Changed")
+                .lastName("LastName")
+                .email("email@domain.com")
+                .password("Password1#")
+                .build());
+        MvcResult resumed = mockMvc.perform(get("/api/v1/users/changes")
+                        .header("Last-Event-ID", lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult reset = mockMvc.perform(get("/api/v1/users/changes")
+                        .header("Last-Event-ID", "0-1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        Assertions.assertThat(awaitContent(resumed, "Changed"))
+                .contains("event:updated")
+                .contains("Changed")
+                .doesNotContain("event:created");
+        Assertions.assertThat(awaitContent(reset, "event:reset")).contains("event:reset");
+        Assertions.assertThat(resumed.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
+    private String awaitContent(MvcResult mvcResult, String expected) throws Exception{
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!mvcResult.getResponse().getContentAsString().contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return mvcResult.getResponse().getContentAsString();
+    }
+
     private UserDTO createDefaultUserDTO(){
         return UserDTO.builder()
                 .firstName("FirstName")
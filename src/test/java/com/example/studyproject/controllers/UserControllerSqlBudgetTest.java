@@ -0,0 +1,182 @@
+package com.example.studyproject.controllers;
+
+import com.example.studyproject.dto.UserDTO;
+import com.example.studyproject.models.User;
+import com.example.studyproject.services.UserService;
+import com.example.studyproject.utils.sql.SqlBudget;
+import com.example.studyproject.utils.sql.SqlCountingConfiguration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.example.studyproject.utils.sql.SqlStatementType.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(SqlCountingConfiguration.class)
+@TestPropertySource(
+        locations = "classpath:application-integrationtest.properties")
+public class UserControllerSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    @DirtiesContext
+    public void getById_atMostOneSelect() throws Exception {
+        User user = userService.create(createDefaultUserDTO());
+
+        mockMvc.perform(get("/api/v1/users/" + user.getId()))
+                .andExpect(status().isOk())
+                .andExpect(SqlBudget.atMost(1, SELECT));
+    }
+
+    @Test
+    @DirtiesContext
+    public void getById_WhenUserNotFound_atMostOneSelect() throws Exception {
+        mockMvc.perform(get("/api/v1/users/0"))
+                .andExpect(status().isNotFound())
+                .andExpect(SqlBudget.atMost(1, SELECT));
+    }
+
+    @Test
+    @DirtiesContext
+    public void add_atMostOneSelectAndOneInsert() throws Exception {
+        mockMvc.perform(post("/api/v1/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDefaultUserDTO())))
+                .andExpect(status().isCreated())
+                .andExpect(SqlBudget.atMost(1, SELECT).and(1, INSERT));
+    }
+
+    @Test
+    @DirtiesContext
+    public void add_WhenEmailAlreadyExists_atMostOneSelect() throws Exception {
+        userService.create(createDefaultUserDTO());
+
+        mockMvc.perform(post("/api/v1/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createDefaultUserDTO())))
+                .andExpect(status().isConflict())
+                .andExpect(SqlBudget.atMost(1, SELECT));
+    }
+
+    @Test
+    @DirtiesContext
+    public void add_WhenUserDTOInvalid_noStatements() throws Exception {
+        mockMvc.perform(post("/api/v1/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(UserDTO.builder()
+                                .lastName("LastName")
+                                .email("email@domain.com")
+                                .password("Password1#")
+                                .build())))
+                .andExpect(status().isBadRequest())
+                .andExpect(SqlBudget.none());
+    }
+
+    @Test
+    @DirtiesContext
+    public void edit_WhenEmailUnchanged_atMostOneSelectAndOneUpdate() throws Exception {
+        User user = userService.create(createDefaultUserDTO());
+
+        mockMvc.perform(put("/api/v1/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(UserDTO.builder()
+                                .id(user.getId())
+                                .firstName("Changed")
+                                .lastName("LastName")
+                                .email("email@domain.com")
+                                .password("Password1#")
+                                .build())))
+                .andExpect(status().isOk())
+                .andExpect(SqlBudget.atMost(1, SELECT).and(1, UPDATE));
+    }
+
+    @Test
+    @DirtiesContext
+    public void edit_WhenEmailChanged_atMostTwoSelectsAndOneUpdate() throws Exception {
+        User user = userService.create(createDefaultUserDTO());
+
+        mockMvc.perform(put("/api/v1/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(UserDTO.builder()
+                                .id(user.getId())
+                                .firstName("FirstName")
+                                .lastName("LastName")
+                                .email("changed@domain.com")
+                                .password("Password1#")
+                                .build())))
+                .andExpect(status().isOk())
+                .andExpect(SqlBudget.atMost(2, SELECT).and(1, UPDATE));
+    }
+
+    @Test
+    @DirtiesContext
+    public void deleteById_atMostOneSelectOneDeleteAndTombstoneInsert() throws Exception {
+        User user = userService.create(createDefaultUserDTO());
+
+        mockMvc.perform(delete("/api/v1/users/" + user.getId()))
+                .andExpect(status().isNoContent())
+                .andExpect(SqlBudget.atMost(1, SELECT).and(1, DELETE).and(1, INSERT));
+    }
+
+    @Test
+    @DirtiesContext
+    public void changesSince_atMostTwoSelects() throws Exception {
+        userService.create(createDefaultUserDTO());
+
+        mockMvc.perform(get("/api/v1/users/changes-since"))
+                .andExpect(status().isOk())
+                .andExpect(SqlBudget.atMost(2, SELECT));
+    }
+
+    @Test
+    @DirtiesContext
+    public void emailAvailability_atMostOneSelect() throws Exception {
+        mockMvc.perform(get("/api/v1/users/email-availability")
+                        .param("email", "email@domain.com"))
+                .andExpect(status().isOk())
+                .andExpect(SqlBudget.atMost(1, SELECT));
+    }
+
+    @Test
+    @DirtiesContext
+    public void stats_noStatements() throws Exception {
+        mockMvc.perform(get("/api/v1/users/stats"))
+                .andExpect(status().isOk())
+                .andExpect(SqlBudget.none());
+    }
+
+    @Test
+    @DirtiesContext
+    public void deadlineStats_noStatements() throws Exception {
+        mockMvc.perform(get("/api/v1/users/deadline-stats"))
+                .andExpect(status().isOk())
+                .andExpect(SqlBudget.none());
+    }
+
+    private UserDTO createDefaultUserDTO(){
+        return UserDTO.builder()
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email("email@domain.com")
+                .password("Password1#")
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.studyproject.repositories;
+
+import com.example.studyproject.models.UserTombstone;
+import com.example.studyproject.utils.sql.SqlCountingConfiguration;
+import com.example.studyproject.utils.sql.SqlStatementCounts;
+import com.example.studyproject.utils.sql.SqlStatementRecorder;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.example.studyproject.utils.sql.SqlStatementType.INSERT;
+import static com.example.studyproject.utils.sql.SqlStatementType.SELECT;
+
+@SpringBootTest
+@Import(SqlCountingConfiguration.class)
+@TestPropertySource(
+        locations = "classpath:application-integrationtest.properties")
+class UserTombstoneRepositoryTest {
+
+    @Autowired
+    private UserTombstoneRepository tombstoneRepository;
+
+    @Test
+    @DirtiesContext
+    void saveAll_insertsInJdbcBatches() {
+        Instant deletedAt = Instant.now();
+        List<UserTombstone> tombstones = LongStream.rangeClosed(1, 120)
+                .mapToObj(userId -> UserTombstone.builder().userId(userId).deletedAt(deletedAt).build())
+                .toList();
+
+        SqlStatementCounts counts = SqlStatementRecorder.record(() -> tombstoneRepository.saveAll(tombstones));
+
+        Assertions.assertThat(counts.batchSizes(INSERT)).containsExactly(50, 50, 20);
+        Assertions.assertThat(counts.count(INSERT)).isEqualTo(3);
+        Assertions.assertThat(counts.count(SELECT)).isZero();
+        Assertions.assertThat(tombstoneRepository.count()).isEqualTo(120);
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.studyproject.repositories.embedded;
+
+import com.example.studyproject.models.User;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.zip.CRC32;
+
+class EmbeddedUserRepositoryTest {
+
+    private static final int INITIAL_CAPACITY = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void save_whenNewUser_assignsIdAndIndexesEmail() {
+        try (EmbeddedUserRepository repository = new EmbeddedUserRepository(directory, INITIAL_CAPACITY)) {
+            User user = repository.save(createUser("email@domain.com"));
+
+            Assertions.assertThat(user.getId()).isEqualTo(1L);
+            Assertions.assertThat(repository.findById(1L)).contains(user);
+            Assertions.assertThat(repository.existsUserByEmail("email@domain.com")).isTrue();
+            Assertions.assertThat(repository.existsUserByEmail("other@domain.com")).isFalse();
+        }
+    }
+
+    @Test
+    void save_whenExistingUser_replacesRecordAndEmailIndex() {
+        try (EmbeddedUserRepository repository = new EmbeddedUserRepository(directory, INITIAL_CAPACITY)) {
+            User user = repository.save(createUser("email@domain.com"));
+            user.setEmail("changed@domain.com");
+
+            repository.save(user);
+
+            Assertions.assertThat(repository.findById(user.getId()).map(User::getEmail)).contains("changed@domain.com");
+            Assertions.assertThat(repository.existsUserByEmail("email@domain.com")).isFalse();
+            Assertions.assertThat(repository.existsUserByEmail("changed@domain.com")).isTrue();
+        }
+    }
+
+    @Test
+    void delete_removesUser() {
+        try (EmbeddedUserRepository repository = new EmbeddedUserRepository(directory, INITIAL_CAPACITY)) {
+            User user = repository.save(createUser("email@domain.com"));
+
+            repository.delete(user);
+
+            Assertions.assertThat(repository.findById(user.getId())).isEmpty();
+            Assertions.assertThat(repository.existsUserByEmail("email@domain.com")).isFalse();
+        }
+    }
+
+    @Test
+    void open_afterRestart_recoversUsersFromLog() {
+        try (EmbeddedUserRepository repository = new EmbeddedUserRepository(directory, INITIAL_CAPACITY)) {
+            for (int i = 0; i < 200; i++) {
+                repository.save(createUser("email" + i + "@domain.com"));
+            }
+            repository.delete(repository.findById(7L).orElseThrow());
+        }
+
+        try (EmbeddedUserRepository repository = new EmbeddedUserRepository(directory, INITIAL_CAPACITY)) {
+            Assertions.assertThat(repository.findById(1L).map(User::getEmail)).contains("email0@domain.com");
+            Assertions.assertThat(repository.findById(7L)).isEmpty();
+            Assertions.assertThat(repository.existsUserByEmail("email199@domain.com")).isTrue();
+            Assertions.assertThat(repository.save(createUser("new@domain.com")).getId()).isEqualTo(201L);
+        }
+    }
+
+    @Test
+    void open_afterRestart_recoversTimestamps() {
+        Instant createdAt = Instant.parse("2023-05-01T10:00:00.000001Z");
+        Instant updatedAt = Instant.parse("2023-05-02T10:00:00.000002Z");
+        try (EmbeddedUserRepository repository = new EmbeddedUserRepository(directory, INITIAL_CAPACITY)) {
+            User user = createUser("email@domain.com");
+            user.setCreatedAt(createdAt);
+            user.setUpdatedAt(updatedAt);
+            repository.save(user);
+            repository.save(createUser("untimed@domain.com"));
+        }
+
+        try (EmbeddedUserRepository repository = new EmbeddedUserRepository(directory, INITIAL_CAPACITY)) {
+            User user = repository.findById(1L).orElseThrow();
+            Assertions.assertThat(user.getCreatedAt()).isEqualTo(createdAt);
+            Assertions.assertThat(user.getUpdatedAt()).isEqualTo(updatedAt);
+            Assertions.assertThat(repository.findById(2L).orElseThrow().getUpdatedAt()).isNull();
+        }
+    }
+
+    @Test
+    void open_whenRecordPredatesTimestamps_readsUserWithoutThem() throws Exception {
+        ByteBuffer body = ByteBuffer.allocate(256);
+        body.put((byte) 1).putLong(1L);
+        for (String field : new String[]{"legacy@domain.com", "FirstName", "LastName", "Password1#"}) {
+            byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+            body.putInt(bytes.length).put(bytes);
+        }
+        body.flip();
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("users.log").toFile(), "rw")) {
+            file.writeInt(body.remaining());
+            file.writeInt((int) crc.getValue());
+            file.write(body.array(), 0, body.remaining());
+        }
+
+        try (EmbeddedUserRepository repository = new EmbeddedUserRepository(directory, INITIAL_CAPACITY)) {
+            User user = repository.findById(1L).orElseThrow();
+            Assertions.assertThat(user.getEmail()).isEqualTo("legacy@domain.com");
+            Assertions.assertThat(user.getPassword()).isEqualTo("Password1#");
+            Assertions.assertThat(user.getCreatedAt()).isNull();
+            Assertions.assertThat(repository.existsUserByEmail("legacy@domain.com")).isTrue();
+        }
+    }
+
+    @Test
+    void open_whenLogTailIsTorn_recoversCompleteRecords() throws Exception {
+        int secondRecordOffset = 100;
+        try (EmbeddedUserRepository repository = new EmbeddedUserRepository(directory, INITIAL_CAPACITY)) {
+            repository.save(createUser("email@domain.com"));
+            repository.save(createUser("torn@domain.com"));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(directory.resolve("users.log").toFile(), "rw")) {
+            file.seek(secondRecordOffset + 20);
+            file.writeInt(0xDEADBEEF);
+        }
+
+        try (EmbeddedUserRepository repository = new EmbeddedUserRepository(directory, INITIAL_CAPACITY)) {
+            Assertions.assertThat(repository.existsUserByEmail("email@domain.com")).isTrue();
+            Assertions.assertThat(repository.existsUserByEmail("torn@domain.com")).isFalse();
+            Assertions.assertThat(repository.save(createUser("torn@domain.com")).getId()).isEqualTo(2L);
+        }
+    }
+
+    @Test
+    void compact_keepsOnlyLiveRecords() throws Exception {
+        try (EmbeddedUserRepository repository = new EmbeddedUserRepository(directory, INITIAL_CAPACITY)) {
+            User user = repository.save(createUser("email@domain.com"));
+            for (int i = 0; i < 50; i++) {
+                user.setFirstName("Name" + (char) ('a' + i % 26));
+                repository.save(user);
+            }
+            User deleted = repository.save(createUser("deleted@domain.com"));
+            repository.delete(deleted);
+
+            Assertions.assertThat(repository.needsCompaction(0.5)).isTrue();
+            repository.compact();
+
+            Assertions.assertThat(repository.needsCompaction(0.5)).isFalse();
+            Assertions.assertThat(repository.findById(user.getId())).contains(user);
+            Assertions.assertThat(repository.existsUserByEmail("deleted@domain.com")).isFalse();
+        }
+
+        try (EmbeddedUserRepository repository = new EmbeddedUserRepository(directory, INITIAL_CAPACITY)) {
+            Assertions.assertThat(repository.findById(1L).map(User::getFirstName)).contains("Namex");
+            Assertions.assertThat(repository.save(createUser("new@domain.com")).getId()).isEqualTo(3L);
+        }
+    }
+
+    private User createUser(String email) {
+        return User.builder()
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email(email)
+                .password("Password1#")
+                .build();
+    }
+}
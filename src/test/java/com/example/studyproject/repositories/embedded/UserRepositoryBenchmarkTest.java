@@ -0,0 +1,95 @@
+package com.example.studyproject.repositories.embedded;
+
+import com.example.studyproject.models.User;
+import com.example.studyproject.repositories.JpaUserRepository;
+import com.example.studyproject.repositories.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+
+/**
+ * Runs save, findById, existsUserByEmail and delete over the same users against both backends and
+ * logs the best ns/op of each operation after warm-up rounds. Every operation must beat JPA; the
+ * sub-microsecond goal for point operations is reported, not asserted, as it depends on the host.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@TestPropertySource(
+        locations = "classpath:application-integrationtest.properties")
+class UserRepositoryBenchmarkTest {
+
+    private static final int USERS = 10_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    @Autowired
+    private JpaUserRepository jpaUserRepository;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void compareEmbeddedWithJpa() {
+        Map<String, Long> embedded;
+        try (EmbeddedUserRepository embeddedUserRepository = new EmbeddedUserRepository(directory, 64 * 1024 * 1024)) {
+            embedded = run("embedded", embeddedUserRepository);
+        }
+        Map<String, Long> jpa = run("jpa", jpaUserRepository);
+
+        embedded.forEach((operation, nanos) -> Assertions.assertThat(nanos)
+                .as("embedded %s ns/op", operation)
+                .isLessThan(jpa.get(operation)));
+    }
+
+    private Map<String, Long> run(String backend, UserRepository repository) {
+        Map<String, Long> best = new LinkedHashMap<>();
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            boolean measured = round >= WARMUP_ROUNDS;
+            String prefix = "round" + round + "-email";
+            List<User> users = new ArrayList<>(USERS);
+            measure(best, measured, "save", index -> users.add(repository.save(createUser(prefix + index + "@domain.com"))));
+            measure(best, measured, "findById", index -> repository.findById(users.get((int) index).getId()));
+            measure(best, measured, "existsUserByEmail", index -> repository.existsUserByEmail(prefix + index + "@domain.com"));
+            measure(best, measured, "delete", index -> repository.delete(users.get((int) index)));
+        }
+        best.forEach((operation, nanos) -> log.info("{} {} {} ns/op", backend, operation, nanos));
+        return best;
+    }
+
+    private void measure(Map<String, Long> best, boolean measured, String operation, LongConsumer body) {
+        long nanosPerOp = loop(body) / USERS;
+        if (measured) {
+            best.merge(operation, nanosPerOp, Math::min);
+        }
+    }
+
+    private long loop(LongConsumer body) {
+        long start = System.nanoTime();
+        for (long index = 0; index < USERS; index++) {
+            body.accept(index);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private User createUser(String email) {
+        return User.builder()
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email(email)
+                .password("Password1#")
+                .build();
+    }
+}
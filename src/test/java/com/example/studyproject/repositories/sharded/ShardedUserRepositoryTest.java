@@ -0,0 +1,207 @@
+package com.example.studyproject.repositories.sharded;
+
+import com.example.studyproject.exceptions.UserAlreadyExistsException;
+import com.example.studyproject.models.User;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+class ShardedUserRepositoryTest {
+
+    private static final int SHARD_COUNT = 3;
+
+    private List<DataSource> dataSources;
+    private ShardedUserRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        String prefix = UUID.randomUUID().toString();
+        dataSources = new ArrayList<>();
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            dataSources.add(new DriverManagerDataSource("jdbc:h2:mem:" + prefix + "-shard" + i + ";DB_CLOSE_DELAY=-1"));
+        }
+        repository = new ShardedUserRepository(dataSources, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSources.forEach(dataSource -> new JdbcTemplate(dataSource).execute("SHUTDOWN"));
+    }
+
+    @Test
+    void save_whenNewUser_storesUserOnShardEncodedInId() {
+        User user = repository.save(createUser("email@domain.com"));
+
+        Assertions.assertThat(user.getId()).isNotNull();
+        int shard = repository.shardForId(user.getId());
+        Assertions.assertThat(shard).isEqualTo(repository.shardForEmail("email@domain.com"));
+        Assertions.assertThat(countUsers(shard)).isEqualTo(1);
+        Assertions.assertThat(repository.findById(user.getId())).contains(user);
+    }
+
+    @Test
+    void save_whenManyUsers_assignsUniqueIdsAcrossShards() {
+        Set<Long> ids = new HashSet<>();
+        Set<Integer> usedShards = new HashSet<>();
+        for (int i = 0; i < 30; i++) {
+            User user = repository.save(createUser("email" + i + "@domain.com"));
+            ids.add(user.getId());
+            usedShards.add(repository.shardForId(user.getId()));
+        }
+
+        Assertions.assertThat(ids).hasSize(30);
+        Assertions.assertThat(usedShards).hasSize(SHARD_COUNT);
+    }
+
+    @Test
+    void existsUserByEmail_readsOnlyTheEmailShard() {
+        repository.save(createUser("email@domain.com"));
+        int emailShard = repository.shardForEmail("email@domain.com");
+
+        Assertions.assertThat(repository.existsUserByEmail("email@domain.com")).isTrue();
+        Assertions.assertThat(repository.existsUserByEmail("other@domain.com")).isFalse();
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            Assertions.assertThat(countEmailClaims(shard)).isEqualTo(shard == emailShard ? 1 : 0);
+        }
+    }
+
+    @Test
+    void save_whenEmailChanged_movesEmailClaim() {
+        User user = repository.save(createUser("email@domain.com"));
+        user.setEmail("changed@domain.com");
+
+        repository.save(user);
+
+        Assertions.assertThat(repository.existsUserByEmail("email@domain.com")).isFalse();
+        Assertions.assertThat(repository.existsUserByEmail("changed@domain.com")).isTrue();
+        Assertions.assertThat(repository.findById(user.getId()).map(User::getEmail)).contains("changed@domain.com");
+    }
+
+    @Test
+    void save_whenNewUsersEmailAlreadyClaimed_throwUserAlreadyExists() {
+        User existing = repository.save(createUser("email@domain.com"));
+
+        Assertions.assertThatThrownBy(() -> repository.save(createUser("email@domain.com")))
+                .isInstanceOf(UserAlreadyExistsException.class);
+
+        Assertions.assertThat(countUsers(repository.shardForId(existing.getId()))).isEqualTo(1);
+        Assertions.assertThat(countEmailClaims(repository.shardForEmail("email@domain.com"))).isEqualTo(1);
+    }
+
+    @Test
+    void save_whenEmailDiffersOnlyInCase_throwUserAlreadyExists() {
+        repository.save(createUser("email@domain.com"));
+
+        Assertions.assertThat(repository.shardForEmail("Email@Domain.COM")).isEqualTo(repository.shardForEmail("email@domain.com"));
+        Assertions.assertThat(repository.existsUserByEmail("Email@Domain.COM")).isTrue();
+        Assertions.assertThatThrownBy(() -> repository.save(createUser("Email@Domain.COM")))
+                .isInstanceOf(UserAlreadyExistsException.class);
+    }
+
+    @Test
+    void save_whenEmailCaseChanged_keepClaim() {
+        User user = repository.save(createUser("email@domain.com"));
+        user.setEmail("Email@Domain.com");
+
+        repository.save(user);
+
+        Assertions.assertThat(repository.findById(user.getId()).map(User::getEmail)).contains("Email@Domain.com");
+        Assertions.assertThat(emailClaimOwner("email@domain.com")).isEqualTo(user.getId());
+        Assertions.assertThat(countEmailClaims(repository.shardForEmail("email@domain.com"))).isEqualTo(1);
+    }
+
+    @Test
+    void save_whenChangedEmailAlreadyClaimed_throwUserAlreadyExistsAndKeepUser() {
+        repository.save(createUser("taken@domain.com"));
+        for (boolean sameShard : new boolean[]{true, false}) {
+            User user = repository.save(createUser(emailOnShard(repository.shardForEmail("taken@domain.com"), sameShard, "user")));
+            String email = user.getEmail();
+            user.setEmail("taken@domain.com");
+
+            Assertions.assertThatThrownBy(() -> repository.save(user)).isInstanceOf(UserAlreadyExistsException.class);
+
+            Assertions.assertThat(repository.findById(user.getId()).map(User::getEmail)).contains(email);
+            Assertions.assertThat(repository.existsUserByEmail(email)).isTrue();
+        }
+        Assertions.assertThat(emailClaimOwner("taken@domain.com")).isNotNull();
+    }
+
+    @Test
+    void save_whenRowUpdateFails_releaseNewEmailClaim() {
+        User user = repository.save(createUser("email@domain.com"));
+        int shard = repository.shardForId(user.getId());
+        for (boolean sameShard : new boolean[]{true, false}) {
+            String changed = emailOnShard(shard, sameShard, "changed");
+            User update = user.toBuilder().email(changed).firstName("x".repeat(300)).build();
+
+            Assertions.assertThatThrownBy(() -> repository.save(update)).isInstanceOf(DataIntegrityViolationException.class);
+
+            Assertions.assertThat(repository.existsUserByEmail(changed)).isFalse();
+            Assertions.assertThat(repository.existsUserByEmail("email@domain.com")).isTrue();
+            Assertions.assertThat(repository.findById(user.getId())).contains(user);
+        }
+    }
+
+    @Test
+    void delete_removesUserAndEmailClaim() {
+        User user = repository.save(createUser("email@domain.com"));
+
+        repository.delete(user);
+
+        Assertions.assertThat(repository.findById(user.getId())).isEmpty();
+        Assertions.assertThat(repository.existsUserByEmail("email@domain.com")).isFalse();
+    }
+
+    @Test
+    void findById_afterRestart_continuesFromReservedIdBlocks() {
+        User first = repository.save(createUser("email@domain.com"));
+
+        ShardedUserRepository restarted = new ShardedUserRepository(dataSources, 4);
+        User second = restarted.save(createUser("second@domain.com"));
+
+        Assertions.assertThat(restarted.findById(first.getId())).contains(first);
+        Assertions.assertThat(second.getId()).isNotEqualTo(first.getId());
+    }
+
+    private String emailOnShard(int shard, boolean sameShard, String prefix) {
+        for (int i = 0; ; i++) {
+            String email = prefix + i + "@domain.com";
+            if ((repository.shardForEmail(email) == shard) == sameShard) {
+                return email;
+            }
+        }
+    }
+
+    private Long emailClaimOwner(String email) {
+        return new JdbcTemplate(dataSources.get(repository.shardForEmail(email))).queryForObject(
+                "SELECT user_id FROM user_emails WHERE email = ?", Long.class, email);
+    }
+
+    private int countUsers(int shard) {
+        return new JdbcTemplate(dataSources.get(shard)).queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+    }
+
+    private int countEmailClaims(int shard) {
+        return new JdbcTemplate(dataSources.get(shard)).queryForObject("SELECT COUNT(*) FROM user_emails", Integer.class);
+    }
+
+    private User createUser(String email) {
+        return User.builder()
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email(email)
+                .password("Password1#")
+                .build();
+    }
+}
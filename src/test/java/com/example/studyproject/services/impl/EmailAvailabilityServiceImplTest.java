@@ -0,0 +1,107 @@
+package com.example.studyproject.services.impl;
+
+import com.example.studyproject.events.UserChangedEvent;
+import com.example.studyproject.models.User;
+import com.example.studyproject.repositories.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmailAvailabilityServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private EmailAvailabilityServiceImpl emailAvailabilityService;
+
+    @BeforeEach
+    void setUp() {
+        emailAvailabilityService = new EmailAvailabilityServiceImpl(userRepository, 1_000, 0.01);
+    }
+
+    @Test
+    void check_whenFilterNotBuilt_fallsBackToRepository() {
+        when(userRepository.existsUserByEmail("email@domain.com")).thenReturn(true);
+
+        Assertions.assertThat(emailAvailabilityService.check("email@domain.com").isAvailable()).isFalse();
+
+        verify(userRepository, times(1)).existsUserByEmail("email@domain.com");
+    }
+
+    @Test
+    void check_whenEmailNotInFilter_doesNotTouchRepository() {
+        doAnswer(invocation -> {
+            Consumer<User> consumer = invocation.getArgument(0);
+            consumer.accept(createUser(1L, "email@domain.com"));
+            return null;
+        }).when(userRepository).forEachUser(any());
+        emailAvailabilityService.rebuild();
+
+        Assertions.assertThat(emailAvailabilityService.check("other@domain.com").isAvailable()).isTrue();
+
+        verify(userRepository, never()).existsUserByEmail(any());
+        Assertions.assertThat(emailAvailabilityService.getStats().getIndexedEmails()).isEqualTo(1);
+        Assertions.assertThat(emailAvailabilityService.getStats().getAnsweredByFilter()).isEqualTo(1);
+    }
+
+    @Test
+    void check_whenEmailAddedAfterRebuild_confirmsWithRepository() {
+        emailAvailabilityService.rebuild();
+        emailAvailabilityService.onUserChanged(UserChangedEvent.created(createUser(1L, "email@domain.com")));
+        when(userRepository.existsUserByEmail("email@domain.com")).thenReturn(true);
+
+        Assertions.assertThat(emailAvailabilityService.check("email@domain.com").isAvailable()).isFalse();
+
+        verify(userRepository, times(1)).existsUserByEmail("email@domain.com");
+    }
+
+    @Test
+    void check_whenEmailDiffersOnlyInCase_confirmsWithRepository() {
+        doAnswer(invocation -> {
+            Consumer<User> consumer = invocation.getArgument(0);
+            consumer.accept(createUser(1L, "John@Domain.com"));
+            return null;
+        }).when(userRepository).forEachUser(any());
+        emailAvailabilityService.rebuild();
+        emailAvailabilityService.onUserChanged(UserChangedEvent.created(createUser(2L, "Mary@Domain.com")));
+        when(userRepository.existsUserByEmail(any())).thenReturn(true);
+
+        Assertions.assertThat(emailAvailabilityService.check("john@domain.com").isAvailable()).isFalse();
+        Assertions.assertThat(emailAvailabilityService.check("MARY@DOMAIN.COM").isAvailable()).isFalse();
+
+        verify(userRepository).existsUserByEmail("john@domain.com");
+        verify(userRepository).existsUserByEmail("MARY@DOMAIN.COM");
+    }
+
+    @Test
+    void onUserChanged_whenEmailAdded_countIndexedEmail() {
+        emailAvailabilityService.rebuild();
+        User user = createUser(1L, "email@domain.com");
+
+        emailAvailabilityService.onUserChanged(UserChangedEvent.created(user));
+        emailAvailabilityService.onUserChanged(UserChangedEvent.updated(user, createUser(1L, "EMAIL@domain.com")));
+        emailAvailabilityService.onUserChanged(UserChangedEvent.updated(user, createUser(1L, "changed@domain.com")));
+        emailAvailabilityService.onUserChanged(UserChangedEvent.deleted(user));
+
+        Assertions.assertThat(emailAvailabilityService.getStats().getIndexedEmails()).isEqualTo(2);
+    }
+
+    private User createUser(Long id, String email) {
+        return User.builder()
+                .id(id)
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email(email)
+                .password("Password1#")
+                .build();
+    }
+}
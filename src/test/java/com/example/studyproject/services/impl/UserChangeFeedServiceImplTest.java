@@ -0,0 +1,192 @@
+package com.example.studyproject.services.impl;
+
+import com.example.studyproject.controllers.UserController;
+import com.example.studyproject.events.UserChangedEvent;
+import com.example.studyproject.models.User;
+import com.example.studyproject.services.EmailAvailabilityService;
+import com.example.studyproject.services.UserService;
+import com.example.studyproject.services.UserStatsService;
+import com.example.studyproject.utils.deadline.RequestDeadlineMetrics;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class UserChangeFeedServiceImplTest {
+
+    @Test
+    void onUserChanged_whenSubscriberKeepsUp_staysSubscribed() {
+        UserChangeFeedServiceImpl feed = new UserChangeFeedServiceImpl(16, 2, 60_000L, Runnable::run);
+        feed.subscribe(null);
+
+        for (long id = 1; id <= 10; id++) {
+            feed.onUserChanged(UserChangedEvent.created(createUser(id)));
+        }
+
+        Assertions.assertThat(feed.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void onUserChanged_whenSubscriberBufferOverflows_disconnectsSubscriber() {
+        UserChangeFeedServiceImpl feed = new UserChangeFeedServiceImpl(16, 2, 60_000L, task -> { });
+        feed.subscribe(null);
+
+        for (long id = 1; id <= 3; id++) {
+            feed.onUserChanged(UserChangedEvent.created(createUser(id)));
+        }
+
+        Assertions.assertThat(feed.getSubscriberCount()).isZero();
+    }
+
+    @Test
+    void subscribe_whenResumeTokenUnknown_stillSubscribes() {
+        UserChangeFeedServiceImpl feed = new UserChangeFeedServiceImpl(16, 2, 60_000L, Runnable::run);
+
+        feed.subscribe("unknown-42");
+
+        Assertions.assertThat(feed.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void subscribe_whenLastEventIdValid_replayOnlyMissedChanges() throws Exception {
+        UserChangeFeedServiceImpl feed = new UserChangeFeedServiceImpl(16, 16, 60_000L, Runnable::run);
+        MockMvc mockMvc = createMockMvc(feed);
+        MvcResult first = subscribe(mockMvc, null);
+        feed.onUserChanged(UserChangedEvent.created(createUser(1L)));
+        feed.onUserChanged(UserChangedEvent.updated(createUser(1L), createUser(1L)));
+        feed.onUserChanged(UserChangedEvent.deleted(createUser(1L)));
+        List<Event> delivered = events(first);
+
+        MvcResult resumed = subscribe(mockMvc, delivered.get(0).id());
+        MvcResult upToDate = subscribe(mockMvc, delivered.get(2).id());
+
+        Assertions.assertThat(delivered).extracting(Event::name).containsExactly("created", "updated", "deleted");
+        Assertions.assertThat(events(resumed)).containsExactly(delivered.get(1), delivered.get(2));
+        Assertions.assertThat(events(upToDate)).isEmpty();
+        Assertions.assertThat(feed.getSubscriberCount()).isEqualTo(3);
+    }
+
+    @Test
+    void subscribe_whenTokenFromOlderEpoch_sendReset() throws Exception {
+        UserChangeFeedServiceImpl feed = new UserChangeFeedServiceImpl(16, 16, 60_000L, Runnable::run);
+        MockMvc mockMvc = createMockMvc(feed);
+        MvcResult first = subscribe(mockMvc, null);
+        feed.onUserChanged(UserChangedEvent.created(createUser(1L)));
+        String sequence = events(first).get(0).id().substring(events(first).get(0).id().lastIndexOf('-'));
+
+        MvcResult previousEpoch = subscribe(mockMvc, "0" + sequence);
+        MvcResult viaQueryParameter = mockMvc.perform(get("/api/v1/users/changes").param("resumeToken", "0" + sequence))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        Assertions.assertThat(events(previousEpoch)).extracting(Event::name).containsExactly("reset");
+        Assertions.assertThat(events(viaQueryParameter)).extracting(Event::name).containsExactly("reset");
+    }
+
+    @Test
+    void subscribe_whenTokenFellOutOfHistory_sendResetOtherwiseReplay() throws Exception {
+        UserChangeFeedServiceImpl feed = new UserChangeFeedServiceImpl(2, 16, 60_000L, Runnable::run);
+        MockMvc mockMvc = createMockMvc(feed);
+        MvcResult first = subscribe(mockMvc, null);
+        for (long id = 1; id <= 5; id++) {
+            feed.onUserChanged(UserChangedEvent.created(createUser(id)));
+        }
+        List<Event> delivered = events(first);
+
+        MvcResult tooOld = subscribe(mockMvc, delivered.get(1).id());
+        MvcResult stillRetained = subscribe(mockMvc, delivered.get(2).id());
+
+        Assertions.assertThat(events(tooOld)).extracting(Event::name).containsExactly("reset");
+        Assertions.assertThat(events(stillRetained)).containsExactly(delivered.get(3), delivered.get(4));
+    }
+
+    @Test
+    void onUserChanged_whenSubscriberBufferOverflows_endStreamAndResumeFromLastDelivered() throws Exception {
+        Deque<Runnable> tasks = new ArrayDeque<>();
+        Executor sender = tasks::add;
+        UserChangeFeedServiceImpl feed = new UserChangeFeedServiceImpl(16, 2, 60_000L, sender);
+        MockMvc mockMvc = createMockMvc(feed);
+        MvcResult slow = subscribe(mockMvc, null);
+        feed.onUserChanged(UserChangedEvent.created(createUser(1L)));
+        runAll(tasks);
+
+        for (long id = 2; id <= 4; id++) {
+            feed.onUserChanged(UserChangedEvent.created(createUser(id)));
+        }
+        runAll(tasks);
+
+        List<Event> delivered = events(slow);
+        Assertions.assertThat(delivered).hasSize(1);
+        Assertions.assertThat(feed.getSubscriberCount()).isZero();
+
+        MvcResult resumed = subscribe(mockMvc, delivered.get(0).id());
+        runAll(tasks);
+
+        Assertions.assertThat(events(resumed)).extracting(Event::id)
+                .hasSize(3)
+                .doesNotContain(delivered.get(0).id());
+        Assertions.assertThat(feed.getSubscriberCount()).isEqualTo(1);
+    }
+
+    private MockMvc createMockMvc(UserChangeFeedServiceImpl feed) {
+        return MockMvcBuilders.standaloneSetup(new UserController(mock(UserService.class), feed,
+                mock(EmailAvailabilityService.class), mock(UserStatsService.class), new RequestDeadlineMetrics())).build();
+    }
+
+    private MvcResult subscribe(MockMvc mockMvc, String lastEventId) throws Exception {
+        return mockMvc.perform(lastEventId == null
+                        ? get("/api/v1/users/changes")
+                        : get("/api/v1/users/changes").header("Last-Event-ID", lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private static void runAll(Deque<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+    }
+
+    private static List<Event> events(MvcResult mvcResult) throws Exception {
+        List<Event> events = new ArrayList<>();
+        for (String block : mvcResult.getResponse().getContentAsString().split("\n\n")) {
+            String id = null;
+            String name = null;
+            for (String line : block.split("\n")) {
+                if (line.startsWith("id:")) {
+                    id = line.substring(3);
+                } else if (line.startsWith("event:")) {
+                    name = line.substring(6);
+                }
+            }
+            if (name != null) {
+                events.add(new Event(id, name));
+            }
+        }
+        return events;
+    }
+
+    private User createUser(Long id) {
+        return User.builder()
+                .id(id)
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email("email" + id + "@domain.com")
+                .password("Password1#")
+                .build();
+    }
+
+    private record Event(String id, String name) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.studyproject.services.impl;
+
+import com.example.studyproject.dto.UserChangeDTO;
+import com.example.studyproject.dto.UserChangesPageDTO;
+import com.example.studyproject.events.UserChangedEvent;
+import com.example.studyproject.exceptions.InvalidWatermarkException;
+import com.example.studyproject.models.User;
+import com.example.studyproject.models.UserTombstone;
+import com.example.studyproject.repositories.JpaUserRepository;
+import com.example.studyproject.repositories.UserTombstoneRepository;
+import com.example.studyproject.utils.deadline.RequestDeadlineProperties;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserDeltaSyncServiceImplTest {
+
+    private static final Instant T1 = Instant.parse("2023-05-01T10:00:00.000001Z");
+    private static final Instant T2 = Instant.parse("2023-05-01T10:00:00.000002Z");
+
+    @Mock
+    private JpaUserRepository userRepository;
+
+    @Mock
+    private UserTombstoneRepository tombstoneRepository;
+
+    private UserDeltaSyncServiceImpl userDeltaSyncService;
+
+    @BeforeEach
+    void setUp() {
+        userDeltaSyncService = new UserDeltaSyncServiceImpl(userRepository, tombstoneRepository, 2, 3, 31_000, 60_000,
+                new RequestDeadlineProperties());
+    }
+
+    @Test
+    void changesSince_mergeUsersAndTombstonesInWatermarkOrder() {
+        when(userRepository.findChangedSince(eq(Instant.EPOCH), eq(0L), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(createUser(3L, T1, T1), createUser(1L, T1, T2)));
+        when(tombstoneRepository.findDeletedSince(eq(Instant.EPOCH), eq(0L), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(createTombstone(2L, T2)));
+
+        UserChangesPageDTO page = userDeltaSyncService.changesSince(null, 5);
+
+        Assertions.assertThat(page.getChanges()).extracting(UserChangeDTO::getType)
+                .containsExactly("created", "updated", "deleted");
+        Assertions.assertThat(page.getChanges()).extracting(UserChangeDTO::getUserId)
+                .containsExactly(3L, 1L, 2L);
+        Assertions.assertThat(page.getWatermark()).isEqualTo(micros(T2) + ":2");
+        Assertions.assertThat(page.isHasMore()).isFalse();
+        Assertions.assertThat(page.isResyncRequired()).isFalse();
+    }
+
+    @Test
+    void changesSince_whenMoreChangesThanPage_returnHasMore() {
+        when(userRepository.findChangedSince(eq(T1), eq(7L), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(createUser(8L, T1, T1), createUser(9L, T2, T2), createUser(10L, T2, T2)));
+        when(tombstoneRepository.findDeletedSince(eq(T1), eq(7L), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        UserChangesPageDTO page = userDeltaSyncService.changesSince(micros(T1) + ":7", null);
+
+        Assertions.assertThat(page.getChanges()).extracting(UserChangeDTO::getUserId).containsExactly(8L, 9L);
+        Assertions.assertThat(page.getWatermark()).isEqualTo(micros(T2) + ":9");
+        Assertions.assertThat(page.isHasMore()).isTrue();
+        Assertions.assertThat(page.isResyncRequired()).isTrue();
+    }
+
+    @Test
+    void changesSince_whenNothingChanged_keepWatermark() {
+        String watermark = micros(T2) + ":4";
+
+        UserChangesPageDTO page = userDeltaSyncService.changesSince(watermark, 1000);
+
+        Assertions.assertThat(page.getChanges()).isEmpty();
+        Assertions.assertThat(page.getWatermark()).isEqualTo(watermark);
+        verify(userRepository).findChangedSince(eq(T2), eq(4L), any(Instant.class), eq(Pageable.ofSize(4)));
+    }
+
+    @Test
+    void changesSince_whenWatermarkInvalid_throwException() {
+        Assertions.assertThatThrownBy(() -> userDeltaSyncService.changesSince("yesterday", null))
+                .isInstanceOf(InvalidWatermarkException.class);
+        Assertions.assertThatThrownBy(() -> userDeltaSyncService.changesSince("1:x", null))
+                .isInstanceOf(InvalidWatermarkException.class);
+        verifyNoInteractions(userRepository, tombstoneRepository);
+    }
+
+    @Test
+    void constructor_whenSettleWindowShorterThanRequestDeadline_fail() {
+        RequestDeadlineProperties deadlineProperties = new RequestDeadlineProperties();
+
+        Assertions.assertThatThrownBy(() -> new UserDeltaSyncServiceImpl(userRepository, tombstoneRepository,
+                        2, 3, 30_000, 60_000, deadlineProperties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("31000");
+        deadlineProperties.setEnabled(false);
+        Assertions.assertThat(new UserDeltaSyncServiceImpl(userRepository, tombstoneRepository,
+                2, 3, 0, 60_000, deadlineProperties)).isNotNull();
+    }
+
+    @Test
+    void onUserChanged_whenDeleted_saveTombstone() {
+        userDeltaSyncService.onUserChanged(UserChangedEvent.deleted(createUser(5L, T1, T2)));
+
+        ArgumentCaptor<UserTombstone> tombstone = ArgumentCaptor.forClass(UserTombstone.class);
+        verify(tombstoneRepository).save(tombstone.capture());
+        Assertions.assertThat(tombstone.getValue()).isEqualTo(createTombstone(5L, T2));
+    }
+
+    @Test
+    void onUserChanged_whenUpdated_ignore() {
+        userDeltaSyncService.onUserChanged(UserChangedEvent.updated(createUser(5L, T1, T1), createUser(5L, T1, T2)));
+
+        verifyNoInteractions(tombstoneRepository);
+    }
+
+    private User createUser(Long id, Instant createdAt, Instant updatedAt) {
+        return User.builder()
+                .id(id)
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email("email" + id + "@domain.com")
+                .password("Password1#")
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+
+    private UserTombstone createTombstone(Long userId, Instant deletedAt) {
+        return UserTombstone.builder()
+                .userId(userId)
+                .deletedAt(deletedAt)
+                .build();
+    }
+
+    private static long micros(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+    }
+}
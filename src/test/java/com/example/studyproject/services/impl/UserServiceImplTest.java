@@ -1,6 +1,7 @@
 package com.example.studyproject.services.impl;
 
 import com.example.studyproject.dto.UserDTO;
+import com.example.studyproject.events.UserChangedEvent;
 import com.example.studyproject.exceptions.UserAlreadyExistsException;
 import com.example.studyproject.exceptions.UserNotFoundException;
 import com.example.studyproject.models.User;
@@ -10,11 +11,14 @@ import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.AdditionalAnswers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Instant;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -29,6 +33,9 @@ public class UserServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -54,6 +61,25 @@ public class UserServiceImplTest {
 
         verify(userRepository, Mockito.times(1)).existsUserByEmail(userDTO.getEmail());
         verify(userRepository, Mockito.times(1)).save(any(User.class));
+        verify(eventPublisher, Mockito.times(1)).publishEvent(any(UserChangedEvent.class));
+    }
+
+    @Test
+    void create_whenUserDoesNotExist_setTimestamps() {
+        UserDTO userDTO = UserDTO.builder()
+                .firstName("Slavko")
+                .lastName("Gutiy")
+                .email("slavko@gmail.com")
+                .password("Slavko1234$")
+                .build();
+
+        when(userRepository.existsUserByEmail("slavko@gmail.com")).thenReturn(false);
+        when(userRepository.save(any(User.class))).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        User createdUser = userService.create(userDTO);
+
+        Assertions.assertThat(createdUser.getCreatedAt()).isNotNull();
+        Assertions.assertThat(createdUser.getUpdatedAt()).isEqualTo(createdUser.getCreatedAt());
     }
 
     @Test
@@ -74,6 +100,7 @@ public class UserServiceImplTest {
 
         verify(userRepository, Mockito.times(1)).existsUserByEmail(userDTO.getEmail());
         verify(userRepository, Mockito.times(0)).save(any(User.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -121,8 +148,13 @@ public class UserServiceImplTest {
 
         userService.deleteById(1L);
 
+        ArgumentCaptor<UserChangedEvent> event = ArgumentCaptor.forClass(UserChangedEvent.class);
         verify(userRepository, Mockito.times(1)).delete(user);
         verify(userRepository, Mockito.times(1)).findById(1L);
+        verify(eventPublisher, Mockito.times(1)).publishEvent(event.capture());
+        Assertions.assertThat(event.getValue().getType()).isEqualTo(UserChangedEvent.Type.DELETED);
+        Assertions.assertThat(event.getValue().getUser().getId()).isEqualTo(1L);
+        Assertions.assertThat(event.getValue().getUser().getUpdatedAt()).isNotNull();
     }
 
     @Test
@@ -194,12 +226,15 @@ public class UserServiceImplTest {
                 .email("slavko@gmail.com")
                 .password("Slavko1234$")
                 .build();
+        Instant createdAt = Instant.parse("2023-01-01T00:00:00Z");
         User existingUser = User.builder()
                 .id(1L)
                 .firstName("Slavik")
                 .lastName("Gutiy")
                 .email("romko@gmail.com")
                 .password("Slavko1234$")
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
                 .build();
 
         Mockito.when(userRepository.findById(1L)).thenReturn(Optional.of(existingUser));
@@ -212,9 +247,12 @@ public class UserServiceImplTest {
         assertEquals(userDTO.getId(), editedUser.getId());
         assertEquals(userDTO.getFirstName(), editedUser.getFirstName());
         assertEquals(userDTO.getEmail(), editedUser.getEmail());
+        assertEquals(createdAt, editedUser.getCreatedAt());
+        Assertions.assertThat(editedUser.getUpdatedAt()).isAfter(createdAt);
 
         Mockito.verify(userRepository, Mockito.times(1)).findById(1L);
         Mockito.verify(userRepository, Mockito.times(1)).existsUserByEmail(userDTO.getEmail());
         Mockito.verify(userRepository, Mockito.times(1)).save(Mockito.any(User.class));
+        Mockito.verify(eventPublisher, Mockito.times(1)).publishEvent(Mockito.any(UserChangedEvent.class));
     }
 }
\ No newline at end of file
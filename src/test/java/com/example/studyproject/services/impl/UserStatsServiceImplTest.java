@@ -0,0 +1,151 @@
+package com.example.studyproject.services.impl;
+
+import com.example.studyproject.dto.UserStatsDTO;
+import com.example.studyproject.events.UserChangedEvent;
+import com.example.studyproject.models.User;
+import com.example.studyproject.repositories.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserStatsServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserStatsServiceImpl userStatsService;
+
+    @BeforeEach
+    void setUp() {
+        userStatsService = new UserStatsServiceImpl(userRepository);
+    }
+
+    @Test
+    void reconcile_seedCountersFromScan() {
+        givenUsers(createUser(1L, "one@domain.com"), createUser(2L, "two@Domain.com"), createUser(3L, "three@other.org"));
+
+        userStatsService.reconcile();
+
+        UserStatsDTO stats = userStatsService.getStats();
+        Assertions.assertThat(stats.isReady()).isTrue();
+        Assertions.assertThat(stats.getTotalUsers()).isEqualTo(3);
+        Assertions.assertThat(stats.getUsersByDomain()).isEqualTo(Map.of("domain.com", 2L, "other.org", 1L));
+        Assertions.assertThat(stats.getLastReconcile()).isNotNull();
+    }
+
+    @Test
+    void onUserChanged_updateCountersWithoutTouchingRepository() {
+        givenUsers(createUser(1L, "one@domain.com"));
+        userStatsService.reconcile();
+        clearInvocations(userRepository);
+
+        userStatsService.onUserChanged(UserChangedEvent.created(createUser(2L, "two@other.org")));
+        userStatsService.onUserChanged(UserChangedEvent.updated(createUser(1L, "one@domain.com"), createUser(1L, "one@other.org")));
+        userStatsService.onUserChanged(UserChangedEvent.updated(createUser(2L, "two@other.org"), createUser(2L, "second@other.org")));
+        userStatsService.onUserChanged(UserChangedEvent.deleted(createUser(2L, "second@other.org")));
+        UserStatsDTO stats = userStatsService.getStats();
+
+        Assertions.assertThat(stats.getTotalUsers()).isEqualTo(1);
+        Assertions.assertThat(stats.getUsersByDomain()).isEqualTo(Map.of("other.org", 1L));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void reconcile_correctDrift() {
+        givenUsers(createUser(1L, "one@domain.com"));
+        userStatsService.reconcile();
+        userStatsService.onUserChanged(UserChangedEvent.created(createUser(2L, "two@domain.com")));
+        userStatsService.onUserChanged(UserChangedEvent.created(createUser(3L, "three@domain.com")));
+
+        givenUsers(createUser(1L, "one@domain.com"), createUser(2L, "two@domain.com"));
+        userStatsService.reconcile();
+
+        UserStatsDTO stats = userStatsService.getStats();
+        Assertions.assertThat(stats.getTotalUsers()).isEqualTo(2);
+        Assertions.assertThat(stats.getUsersByDomain()).isEqualTo(Map.of("domain.com", 2L));
+        Assertions.assertThat(stats.getLastReconcileCorrection()).isEqualTo(-1);
+    }
+
+    @Test
+    void reconcile_whenUsersChangeDuringScan_keepConcurrentChanges() {
+        doAnswer(invocation -> {
+            Consumer<User> consumer = invocation.getArgument(0);
+            consumer.accept(createUser(1L, "one@a.com"));
+            userStatsService.onUserChanged(UserChangedEvent.deleted(createUser(1L, "one@a.com")));
+            userStatsService.onUserChanged(UserChangedEvent.created(createUser(4L, "four@b.com")));
+            userStatsService.onUserChanged(UserChangedEvent.updated(createUser(3L, "three@a.com"), createUser(3L, "three@c.com")));
+            userStatsService.onUserChanged(UserChangedEvent.created(createUser(10L, "ten@b.com")));
+            userStatsService.onUserChanged(UserChangedEvent.updated(createUser(2L, "two@a.com"), createUser(2L, "two@d.com")));
+            consumer.accept(createUser(2L, "two@a.com"));
+            consumer.accept(createUser(3L, "three@c.com"));
+            consumer.accept(createUser(4L, "four@b.com"));
+            return null;
+        }).when(userRepository).forEachUser(any());
+
+        userStatsService.reconcile();
+
+        UserStatsDTO stats = userStatsService.getStats();
+        Assertions.assertThat(stats.getTotalUsers()).isEqualTo(4);
+        Assertions.assertThat(stats.getUsersByDomain()).isEqualTo(Map.of("b.com", 2L, "c.com", 1L, "d.com", 1L));
+
+        givenUsers(createUser(2L, "two@d.com"), createUser(3L, "three@c.com"), createUser(4L, "four@b.com"),
+                createUser(10L, "ten@b.com"));
+        userStatsService.reconcile();
+
+        Assertions.assertThat(userStatsService.getStats().getLastReconcileCorrection()).isZero();
+    }
+
+    @Test
+    void reconcile_whenScanReadsUserBeforeItsEventIsRecorded_countOnce() {
+        doAnswer(invocation -> {
+            Consumer<User> consumer = invocation.getArgument(0);
+            consumer.accept(createUser(1L, "one@a.com"));
+            consumer.accept(createUser(2L, "two@b.com"));
+            consumer.accept(createUser(3L, "three@d.com"));
+            userStatsService.onUserChanged(UserChangedEvent.created(createUser(2L, "two@b.com")));
+            userStatsService.onUserChanged(UserChangedEvent.updated(createUser(3L, "three@c.com"), createUser(3L, "three@d.com")));
+            return null;
+        }).when(userRepository).forEachUser(any());
+
+        userStatsService.reconcile();
+
+        UserStatsDTO stats = userStatsService.getStats();
+        Assertions.assertThat(stats.getTotalUsers()).isEqualTo(3);
+        Assertions.assertThat(stats.getUsersByDomain()).isEqualTo(Map.of("a.com", 1L, "b.com", 1L, "d.com", 1L));
+    }
+
+    @Test
+    void getStats_whenNotSeeded_returnNotReady() {
+        Assertions.assertThat(userStatsService.getStats().isReady()).isFalse();
+        Assertions.assertThat(userStatsService.getStats().getTotalUsers()).isZero();
+    }
+
+    private void givenUsers(User... users) {
+        doAnswer(invocation -> {
+            Consumer<User> consumer = invocation.getArgument(0);
+            List.of(users).forEach(consumer);
+            return null;
+        }).when(userRepository).forEachUser(any());
+    }
+
+    private User createUser(Long id, String email) {
+        return User.builder()
+                .id(id)
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email(email)
+                .password("Password1#")
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.studyproject.utils.bloom;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_whenValueAdded_returnsTrue() {
+        BloomFilter bloomFilter = new BloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            bloomFilter.put("email" + i + "@domain.com");
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            Assertions.assertThat(bloomFilter.mightContain("email" + i + "@domain.com")).isTrue();
+        }
+    }
+
+    @Test
+    void mightContain_whenValueNotAdded_falsePositiveRateStaysNearTarget() {
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("email" + i + "@domain.com");
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (bloomFilter.mightContain("other" + i + "@domain.com")) {
+                falsePositives++;
+            }
+        }
+
+        Assertions.assertThat(falsePositives / 10_000.0).isLessThan(0.03);
+        Assertions.assertThat(bloomFilter.expectedFalsePositiveRate()).isBetween(0.001, 0.03);
+    }
+}
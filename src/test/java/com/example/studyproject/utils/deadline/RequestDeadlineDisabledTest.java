@@ -0,0 +1,31 @@
+package com.example.studyproject.utils.deadline;
+
+import com.example.studyproject.utils.jdbc.JdbcInterceptor;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+
+@SpringBootTest
+@TestPropertySource(
+        locations = "classpath:application-integrationtest.properties",
+        properties = "app.profiling.opt-in-token=")
+class RequestDeadlineDisabledTest {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void dataSource_whenDeadlinesAndProfilingDisabled_notProxied() {
+        Assertions.assertThat(context.getBeansOfType(JdbcInterceptor.class)).isEmpty();
+        Assertions.assertThat(Proxy.isProxyClass(dataSource.getClass())).isFalse();
+    }
+}
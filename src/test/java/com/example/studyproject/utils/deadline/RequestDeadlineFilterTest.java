@@ -0,0 +1,81 @@
+package com.example.studyproject.utils.deadline;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+class RequestDeadlineFilterTest {
+
+    private final RequestDeadlineProperties properties = new RequestDeadlineProperties();
+    private final RequestDeadlineMetrics metrics = new RequestDeadlineMetrics();
+    private final RequestDeadlineFilter filter = new RequestDeadlineFilter(properties, metrics);
+
+    @Test
+    void doFilter_whenHeaderMissing_useDefaultTimeout() throws Exception {
+        Assertions.assertThat(filterAndCapture(new MockHttpServletRequest("GET", "/api/v1/users/1"), HttpStatus.OK)
+                .getTimeoutMillis()).isEqualTo(10_000);
+        Assertions.assertThat(RequestDeadline.current()).isNull();
+    }
+
+    @Test
+    void doFilter_whenHeaderPresent_useClientTimeoutUpToMaximum() throws Exception {
+        Assertions.assertThat(filterAndCapture(createRequest("250"), HttpStatus.OK).getTimeoutMillis()).isEqualTo(250);
+        Assertions.assertThat(filterAndCapture(createRequest("600000"), HttpStatus.OK).getTimeoutMillis()).isEqualTo(30_000);
+    }
+
+    @Test
+    void doFilter_whenHeaderInvalid_useDefaultTimeout() throws Exception {
+        Assertions.assertThat(filterAndCapture(createRequest("soon"), HttpStatus.OK).getTimeoutMillis()).isEqualTo(10_000);
+        Assertions.assertThat(filterAndCapture(createRequest("0"), HttpStatus.OK).getTimeoutMillis()).isEqualTo(10_000);
+    }
+
+    @Test
+    void doFilter_whenGatewayTimeout_countExceededRequest() throws Exception {
+        filterAndCapture(createRequest("250"), HttpStatus.GATEWAY_TIMEOUT);
+        filterAndCapture(createRequest("250"), HttpStatus.OK);
+
+        Assertions.assertThat(metrics.getStats().getExceededRequests()).isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_whenAsyncStarted_notCountExceededRequest() throws Exception {
+        MockHttpServletRequest request = createRequest("250");
+        request.setAsyncSupported(true);
+        request.startAsync();
+
+        filterAndCapture(request, HttpStatus.GATEWAY_TIMEOUT);
+
+        Assertions.assertThat(metrics.getStats().getExceededRequests()).isZero();
+    }
+
+    @Test
+    void properties_whenTimeoutBelowQueryTimeoutGranularity_failStartup() {
+        ApplicationContextRunner runner = new ApplicationContextRunner().withUserConfiguration(RequestDeadlineConfig.class);
+
+        runner.withPropertyValues("app.request-deadline.default-timeout-millis=500")
+                .run(context -> Assertions.assertThat(context).hasFailed());
+        runner.withPropertyValues("app.request-deadline.max-timeout-millis=999")
+                .run(context -> Assertions.assertThat(context).hasFailed());
+        runner.run(context -> Assertions.assertThat(context).hasNotFailed());
+    }
+
+    private RequestDeadline filterAndCapture(MockHttpServletRequest request, HttpStatus status) throws Exception {
+        AtomicReference<RequestDeadline> deadline = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(), (servletRequest, servletResponse) -> {
+            deadline.set(RequestDeadline.current());
+            ((MockHttpServletResponse) servletResponse).setStatus(status.value());
+        });
+        return deadline.get();
+    }
+
+    private MockHttpServletRequest createRequest(String timeoutMillis) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/1");
+        request.addHeader("X-Request-Timeout", timeoutMillis);
+        return request;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.studyproject.utils.deadline;
+
+import com.example.studyproject.exceptions.DeadlineExceededException;
+import com.example.studyproject.utils.validation.ValidationError;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(
+        locations = "classpath:application-integrationtest.properties",
+        properties = {
+                "spring.datasource.hikari.maximum-pool-size=1",
+                "app.request-deadline.enabled=true",
+                "app.delta-sync.settle-millis=31000"})
+class RequestDeadlineIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private RequestDeadlineMetrics metrics;
+
+    @Test
+    @DirtiesContext
+    void getById_WhenNoConnectionFreeBeforeDeadline_return504() throws Exception {
+        ValidationError error = new ValidationError();
+        error.setErrors(List.of("Request deadline exceeded"));
+
+        try (Connection ignored = dataSource.getConnection()) {
+            long start = System.nanoTime();
+            MvcResult mvcResult = mockMvc.perform(get("/api/v1/users/1")
+                            .header("X-Request-Timeout", "200"))
+                    .andExpect(status().isGatewayTimeout())
+                    .andReturn();
+
+            Assertions.assertThat(System.nanoTime() - start).isLessThan(5_000_000_000L);
+            Assertions.assertThat(mvcResult.getResponse().getContentAsString())
+                    .isEqualTo(objectMapper.writeValueAsString(error));
+        }
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/v1/users/deadline-stats"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        JsonNode stats = objectMapper.readTree(mvcResult.getResponse().getContentAsString());
+        Assertions.assertThat(stats.get("exceededRequests").asLong()).isEqualTo(1);
+        Assertions.assertThat(stats.get("connectionTimeouts").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    @DirtiesContext
+    void query_WhenDeadlinePassesWhileRunning_cancelStatement() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+
+        RequestDeadline.start(1_000);
+        long start = System.nanoTime();
+        try {
+            Assertions.assertThatThrownBy(() -> jdbcTemplate.queryForObject(
+                            "SELECT MAX(RAND()) FROM SYSTEM_RANGE(1, 100000000000)", Double.class))
+                    .isInstanceOf(DeadlineExceededException.class);
+        } finally {
+            RequestDeadline.end();
+        }
+
+        Assertions.assertThat(System.nanoTime() - start).isLessThan(5_000_000_000L);
+        Assertions.assertThat(metrics.getStats().getCancelledStatements()).isEqualTo(1);
+        Assertions.assertThat(metrics.getStats().getCancelledStatementMillis()).isGreaterThanOrEqualTo(900);
+    }
+
+    @Test
+    @DirtiesContext
+    void query_WhenDeadlineAlreadyPassed_rejectStatement() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            RequestDeadline.start(1);
+            Thread.sleep(5);
+            try {
+                Assertions.assertThatThrownBy(() -> connection.createStatement().execute("SELECT 1"))
+                        .isInstanceOf(DeadlineExceededException.class);
+            } finally {
+                RequestDeadline.end();
+            }
+        }
+
+        Assertions.assertThat(metrics.getStats().getRejectedStatements()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.studyproject.utils.deadline;
+
+import com.example.studyproject.controllers.UserController;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Set;
+
+import static org.mockito.Mockito.mock;
+
+class StreamingHandlerDeadlineInterceptorTest {
+
+    private final StreamingHandlerDeadlineInterceptor interceptor = new StreamingHandlerDeadlineInterceptor();
+
+    @Test
+    void preHandle_whenHandlerReturnsSseEmitter_liftDeadline() throws Exception {
+        RequestDeadline.start(250);
+        try {
+            interceptor.preHandle(new MockHttpServletRequest("GET", "/api/v1/users/changes"),
+                    new MockHttpServletResponse(), handler("changes", String.class, String.class));
+
+            Assertions.assertThat(RequestDeadline.current()).isNull();
+        } finally {
+            RequestDeadline.end();
+        }
+    }
+
+    @Test
+    void preHandle_whenHandlerReturnsJson_keepDeadline() throws Exception {
+        RequestDeadline deadline = RequestDeadline.start(250);
+        try {
+            interceptor.preHandle(new MockHttpServletRequest("GET", "/api/v1/users/1"),
+                    new MockHttpServletResponse(), handler("getById", Long.class));
+
+            Assertions.assertThat(RequestDeadline.current()).isSameAs(deadline);
+        } finally {
+            RequestDeadline.end();
+        }
+    }
+
+    @Test
+    void isStreaming_judgeByHandlerNotByAcceptHeader() throws Exception {
+        MockHttpServletRequest acceptsEventStream = new MockHttpServletRequest("GET", "/api/v1/users/1");
+        acceptsEventStream.addHeader("Accept", MediaType.TEXT_EVENT_STREAM_VALUE);
+        MockHttpServletRequest producesEventStream = new MockHttpServletRequest("GET", "/api/v1/users/export");
+        producesEventStream.setAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, Set.of(MediaType.TEXT_EVENT_STREAM));
+
+        Assertions.assertThat(StreamingHandlerDeadlineInterceptor.isStreaming(acceptsEventStream,
+                handler("getById", Long.class))).isFalse();
+        Assertions.assertThat(StreamingHandlerDeadlineInterceptor.isStreaming(producesEventStream, new Object())).isTrue();
+        Assertions.assertThat(StreamingHandlerDeadlineInterceptor.isStreaming(new MockHttpServletRequest(),
+                new HandlerMethod(new Downloads(), Downloads.class.getMethod("download")))).isTrue();
+    }
+
+    private HandlerMethod handler(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+        return new HandlerMethod(mock(UserController.class), UserController.class.getMethod(name, parameterTypes));
+    }
+
+    static class Downloads {
+        public StreamingResponseBody download() {
+            return outputStream -> { };
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.studyproject.utils.json;
+
+import com.example.studyproject.dto.UserDTO;
+import com.example.studyproject.models.User;
+import com.example.studyproject.utils.converter.UserDTOToUserConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Replays the JSON part of a create request, reading a {@code UserDTO} body and writing the {@code User}
+ * response, and reports CPU time and allocated bytes per request for both codec variants.
+ */
+@Slf4j
+@Tag("benchmark")
+class UserJsonCodecBenchmarkTest {
+
+    private static final int REQUESTS = 200_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void compareSpecializedWithReflective() throws Exception {
+        // UserDTO has no default constructor; like Boot's mapper, bind through its constructor parameter names.
+        run("reflective", Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new ParameterNamesModule())
+                .build());
+        run("specialized", Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new ParameterNamesModule(), new UserJsonModule())
+                .build());
+    }
+
+    private void run(String variant, ObjectMapper objectMapper) throws Exception {
+        byte[] body = objectMapper.writeValueAsBytes(UserDTO.builder()
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email("email@domain.com")
+                .password("Password1#")
+                .build());
+        ObjectReader reader = objectMapper.readerFor(UserDTO.class);
+        ObjectWriter writer = objectMapper.writerFor(User.class);
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            loop(reader, writer, body);
+        }
+        long bestCpu = Long.MAX_VALUE;
+        long bestAllocated = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long cpuStart = threadMXBean.getCurrentThreadCpuTime();
+            long allocatedStart = threadMXBean.getCurrentThreadAllocatedBytes();
+            loop(reader, writer, body);
+            bestCpu = Math.min(bestCpu, threadMXBean.getCurrentThreadCpuTime() - cpuStart);
+            bestAllocated = Math.min(bestAllocated, threadMXBean.getCurrentThreadAllocatedBytes() - allocatedStart);
+        }
+        log.info("{} {} ns cpu/request {} bytes allocated/request", variant, bestCpu / REQUESTS, bestAllocated / REQUESTS);
+    }
+
+    private long loop(ObjectReader reader, ObjectWriter writer, byte[] body) throws Exception {
+        long written = 0;
+        for (long index = 0; index < REQUESTS; index++) {
+            UserDTO userDTO = reader.readValue(body);
+            User user = UserDTOToUserConverter.convertUserDTOToUser(userDTO);
+            user.setId(index);
+            written += writer.writeValueAsBytes(user).length;
+        }
+        return written;
+    }
+}
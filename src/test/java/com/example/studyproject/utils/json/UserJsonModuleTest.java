@@ -0,0 +1,162 @@
+package com.example.studyproject.utils.json;
+
+import com.example.studyproject.dto.UserDTO;
+import com.example.studyproject.models.User;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+
+class UserJsonModuleTest {
+
+    // UserDTO has no default constructor; like Boot's mapper, bind through its constructor parameter names.
+    private final ObjectMapper reflectiveMapper = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new ParameterNamesModule())
+            .build();
+    private final ObjectMapper specializedMapper = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new ParameterNamesModule(), new UserJsonModule())
+            .build();
+
+    @Test
+    void modulesToInstall_ShouldUseHandWrittenCodecs() throws Exception {
+        Assertions.assertThat(specializedMapper.getSerializerProviderInstance().findValueSerializer(User.class))
+                .isInstanceOf(UserJsonSerializer.class);
+        Assertions.assertThat(specializedMapper.getSerializerProviderInstance().findValueSerializer(UserDTO.class))
+                .isInstanceOf(UserDTOJsonSerializer.class);
+    }
+
+    @Test
+    void serializeUser_ShouldMatchReflectiveOutput() throws Exception {
+        for (User user : List.of(createUser(), User.builder().build(), createUserWithSpecialCharacters())) {
+            Assertions.assertThat(specializedMapper.writeValueAsString(user))
+                    .isEqualTo(reflectiveMapper.writeValueAsString(user));
+        }
+    }
+
+    @Test
+    void serializeUserDTO_ShouldMatchReflectiveOutput() throws Exception {
+        for (UserDTO userDTO : List.of(createUserDTO(), UserDTO.builder().build(), createUserDTOWithSpecialCharacters())) {
+            Assertions.assertThat(specializedMapper.writeValueAsString(userDTO))
+                    .isEqualTo(reflectiveMapper.writeValueAsString(userDTO));
+        }
+    }
+
+    @Test
+    void serializeUserList_ShouldMatchReflectiveOutput() throws Exception {
+        List<User> users = List.of(createUser(), createUserWithSpecialCharacters());
+
+        Assertions.assertThat(specializedMapper.writeValueAsString(users))
+                .isEqualTo(reflectiveMapper.writeValueAsString(users));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"id\":1,\"firstName\":\"FirstName\",\"lastName\":\"LastName\",\"email\":\"email@domain.com\",\"password\":\"Password1#\"}",
+            "{\"password\":\"Password1#\",\"email\":\"email@domain.com\",\"lastName\":\"LastName\",\"firstName\":\"FirstName\",\"id\":1}",
+            "{\"id\":null,\"firstName\":null,\"lastName\":null,\"email\":null,\"password\":null}",
+            "{\"firstName\":\"FirstName\"}",
+            "{}",
+            "{\"id\":\"42\",\"firstName\":\"FirstName\"}",
+            "{\"id\":7,\"unknown\":{\"nested\":[1,2,{\"a\":null}]},\"email\":\"email@domain.com\"}",
+            "{\"firstName\":\"\\u00c9lodie\",\"lastName\":\"O\\\"Brien\\n\",\"email\":\"\\ud83d\\ude00@domain.com\"}"
+    })
+    void deserialize_ShouldMatchReflectiveResult(String json) throws Exception {
+        Assertions.assertThat(specializedMapper.readValue(json, User.class))
+                .isEqualTo(reflectiveMapper.readValue(json, User.class));
+        Assertions.assertThat(specializedMapper.readValue(json, UserDTO.class))
+                .isEqualTo(reflectiveMapper.readValue(json, UserDTO.class));
+    }
+
+    @Test
+    void roundTrip_ShouldPreserveUser() throws Exception {
+        for (User user : List.of(createUser(), User.builder().build(), createUserWithSpecialCharacters())) {
+            Assertions.assertThat(specializedMapper.readValue(specializedMapper.writeValueAsString(user), User.class))
+                    .isEqualTo(user);
+            Assertions.assertThat(specializedMapper.readValue(reflectiveMapper.writeValueAsString(user), User.class))
+                    .isEqualTo(user);
+            Assertions.assertThat(reflectiveMapper.readValue(specializedMapper.writeValueAsString(user), User.class))
+                    .isEqualTo(user);
+        }
+    }
+
+    @Test
+    void roundTrip_ShouldPreserveUserDTO() throws Exception {
+        for (UserDTO userDTO : List.of(createUserDTO(), UserDTO.builder().build(), createUserDTOWithSpecialCharacters())) {
+            Assertions.assertThat(specializedMapper.readValue(specializedMapper.writeValueAsString(userDTO), UserDTO.class))
+                    .isEqualTo(userDTO);
+            Assertions.assertThat(specializedMapper.readValue(reflectiveMapper.writeValueAsString(userDTO), UserDTO.class))
+                    .isEqualTo(userDTO);
+            Assertions.assertThat(reflectiveMapper.readValue(specializedMapper.writeValueAsString(userDTO), UserDTO.class))
+                    .isEqualTo(userDTO);
+        }
+    }
+
+    @Test
+    void roundTrip_ShouldPreserveUserList() throws Exception {
+        List<User> users = List.of(createUser(), createUserWithSpecialCharacters());
+
+        Assertions.assertThat(specializedMapper.readValue(specializedMapper.writeValueAsString(users), new TypeReference<List<User>>() {}))
+                .isEqualTo(users);
+    }
+
+    @Test
+    void deserialize_WhenUnknownPropertiesFail_ShouldRejectLikeReflectiveMapper() {
+        String json = "{\"id\":1,\"unknown\":true}";
+        ObjectMapper strictReflectiveMapper = reflectiveMapper.copy().enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        ObjectMapper strictSpecializedMapper = specializedMapper.copy().enable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        Assertions.assertThatThrownBy(() -> strictReflectiveMapper.readValue(json, User.class))
+                .isInstanceOf(UnrecognizedPropertyException.class);
+        Assertions.assertThatThrownBy(() -> strictSpecializedMapper.readValue(json, User.class))
+                .isInstanceOf(UnrecognizedPropertyException.class);
+        Assertions.assertThatThrownBy(() -> strictSpecializedMapper.readValue(json, UserDTO.class))
+                .isInstanceOf(UnrecognizedPropertyException.class);
+    }
+
+    private User createUser() {
+        return User.builder()
+                .id(1L)
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email("email@domain.com")
+                .password("Password1#")
+                .build();
+    }
+
+    private User createUserWithSpecialCharacters() {
+        return User.builder()
+                .id(Long.MAX_VALUE)
+                .firstName("Élodie")
+                .lastName("O\"Brien\\\n\t")
+                .email("😀@domain.com")
+                .password("</script>\u0000")
+                .build();
+    }
+
+    private UserDTO createUserDTO() {
+        return UserDTO.builder()
+                .id(1L)
+                .firstName("FirstName")
+                .lastName("LastName")
+                .email("email@domain.com")
+                .password("Password1#")
+                .build();
+    }
+
+    private UserDTO createUserDTOWithSpecialCharacters() {
+        return UserDTO.builder()
+                .firstName("Élodie")
+                .lastName("O\"Brien\\\n\t")
+                .email("😀@domain.com")
+                .password("</script>\u0000")
+                .build();
+    }
+}
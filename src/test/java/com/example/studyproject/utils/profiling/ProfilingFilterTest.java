@@ -0,0 +1,168 @@
+package com.example.studyproject.utils.profiling;
+
+import jakarta.servlet.ServletResponseWrapper;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+
+@ExtendWith(OutputCaptureExtension.class)
+class ProfilingFilterTest {
+
+    private static final String TOKEN = "secret-token";
+
+    @Test
+    void doFilter_whenOptedIn_addServerTimingAfterBodyWritten() throws Exception {
+        ProfilingFilter filter = new ProfilingFilter(createProperties(false, 60_000));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/1");
+        request.addHeader("X-Profile", TOKEN);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain(new ProfiledServlet()));
+
+        Assertions.assertThat(response.getHeader(ProfilingFilter.SERVER_TIMING))
+                .contains("total;dur=", "cpu;dur=", "alloc;desc=", "sql;dur=", "desc=\"2 statements\"",
+                        "validation;dur=", "json;dur=");
+        Assertions.assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+        Assertions.assertThat(RequestProfile.current()).isNull();
+    }
+
+    @Test
+    void doFilter_whenNotOptedIn_doNotProfile() throws Exception {
+        ProfilingFilter filter = new ProfilingFilter(createProperties(false, 60_000));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ProfiledServlet servlet = new ProfiledServlet();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/users/1"), response, new MockFilterChain(servlet));
+
+        Assertions.assertThat(response.getHeader(ProfilingFilter.SERVER_TIMING)).isNull();
+        Assertions.assertThat(servlet.profiled).isFalse();
+        Assertions.assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+    }
+
+    @Test
+    void doFilter_whenTokenWrongOrNotConfigured_doNotProfile() throws Exception {
+        ProfilingProperties withoutToken = createProperties(false, 60_000);
+        withoutToken.setOptInToken("");
+
+        for (ProfilingProperties properties : new ProfilingProperties[]{createProperties(false, 60_000), withoutToken}) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/1");
+            request.addHeader("X-Profile", "guess");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            ProfiledServlet servlet = new ProfiledServlet();
+
+            new ProfilingFilter(properties).doFilter(request, response, new MockFilterChain(servlet));
+
+            Assertions.assertThat(response.getHeader(ProfilingFilter.SERVER_TIMING)).isNull();
+            Assertions.assertThat(servlet.profiled).isFalse();
+        }
+    }
+
+    @Test
+    void doFilter_whenResponseIsEventStream_writeThroughUnbuffered() throws Exception {
+        ProfilingFilter filter = new ProfilingFilter(createProperties(true, 0));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/users/changes"), response,
+                new MockFilterChain(new HttpServlet() {
+                    @Override
+                    protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+                        response.getOutputStream().write("data:1\n\n".getBytes());
+                        response.flushBuffer();
+                        Assertions.assertThat(((MockHttpServletResponse) ((ServletResponseWrapper) response)
+                                .getResponse()).isCommitted()).isTrue();
+                    }
+                }));
+
+        Assertions.assertThat(response.getContentAsString()).isEqualTo("data:1\n\n");
+        Assertions.assertThat(response.getHeader(ProfilingFilter.SERVER_TIMING)).isNull();
+    }
+
+    @Test
+    void doFilter_whenAsyncStarted_leaveResponseAlone(CapturedOutput output) throws Exception {
+        ProfilingFilter filter = new ProfilingFilter(createProperties(true, 0));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/changes");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (servletRequest, servletResponse) -> servletRequest.startAsync());
+
+        Assertions.assertThat(response.getHeader(ProfilingFilter.SERVER_TIMING)).isNull();
+        Assertions.assertThat(output.getOut()).doesNotContain("slow_request");
+    }
+
+    @Test
+    void doFilter_whenProfiledAndOverThreshold_logSlowRequestBreakdown(CapturedOutput output) throws Exception {
+        ProfilingFilter filter = new ProfilingFilter(createProperties(true, 0));
+
+        filter.doFilter(new MockHttpServletRequest("PUT", "/api/v1/users"), new MockHttpServletResponse(),
+                new MockFilterChain(new ProfiledServlet()));
+
+        Assertions.assertThat(output.getOut())
+                .contains("slow_request method=PUT uri=/api/v1/users status=200")
+                .contains("sql_statements=2");
+    }
+
+    @Test
+    void doFilter_whenNotProfiledAndOverThreshold_logSlowRequestWallTime(CapturedOutput output) throws Exception {
+        ProfilingFilter filter = new ProfilingFilter(createProperties(false, 0));
+        ProfiledServlet servlet = new ProfiledServlet();
+
+        filter.doFilter(new MockHttpServletRequest("PUT", "/api/v1/users"), new MockHttpServletResponse(),
+                new MockFilterChain(servlet));
+
+        Assertions.assertThat(servlet.profiled).isFalse();
+        Assertions.assertThat(output.getOut())
+                .contains("slow_request method=PUT uri=/api/v1/users status=200 wall_ms=")
+                .doesNotContain("sql_statements");
+    }
+
+    @Test
+    void doFilter_whenUnderThreshold_doNotLog(CapturedOutput output) throws Exception {
+        ProfilingFilter filter = new ProfilingFilter(createProperties(false, 60_000));
+
+        filter.doFilter(new MockHttpServletRequest("PUT", "/api/v1/users"), new MockHttpServletResponse(),
+                new MockFilterChain(new ProfiledServlet()));
+
+        Assertions.assertThat(output.getOut()).doesNotContain("slow_request");
+    }
+
+    private ProfilingProperties createProperties(boolean enabled, long slowRequestThresholdMillis) {
+        ProfilingProperties properties = new ProfilingProperties();
+        properties.setEnabled(enabled);
+        properties.setOptInToken(TOKEN);
+        properties.setSlowRequestThresholdMillis(slowRequestThresholdMillis);
+        return properties;
+    }
+
+    private static class ProfiledServlet extends HttpServlet {
+
+        private boolean profiled;
+
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            RequestProfile profile = RequestProfile.current();
+            profiled = profile != null;
+            if (profiled) {
+                profile.addSql(1_000_000);
+                profile.addSql(2_000_000);
+                profile.addValidation(500_000);
+                profile.addJson(250_000);
+            }
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"id\":1}");
+            response.flushBuffer();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.studyproject.utils.sql;
+
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * MockMvc matcher for the statements a request may issue, e.g.
+ * {@code .andExpect(SqlBudget.atMost(1, SELECT))}. Statement types that are not listed have a
+ * budget of zero, so any new kind of query fails the test.
+ */
+public final class SqlBudget implements ResultMatcher {
+
+    private final Map<SqlStatementType, Integer> limits = new EnumMap<>(SqlStatementType.class);
+
+    private SqlBudget() {
+    }
+
+    public static SqlBudget none() {
+        return new SqlBudget();
+    }
+
+    public static SqlBudget atMost(int count, SqlStatementType type) {
+        return new SqlBudget().and(count, type);
+    }
+
+    public SqlBudget and(int count, SqlStatementType type) {
+        limits.put(type, count);
+        return this;
+    }
+
+    @Override
+    public void match(MvcResult result) {
+        SqlStatementCounts counts = (SqlStatementCounts) result.getRequest().getAttribute(SqlStatementCountingFilter.COUNTS_ATTRIBUTE);
+        if (counts == null) {
+            throw new AssertionError("No SQL statement counts recorded, is SqlCountingConfiguration imported?");
+        }
+        check(counts, result.getRequest().getMethod() + " " + result.getRequest().getRequestURI());
+    }
+
+    public void check(SqlStatementCounts counts, String description) {
+        for (SqlStatementType type : SqlStatementType.values()) {
+            int limit = limits.getOrDefault(type, 0);
+            if (counts.count(type) > limit) {
+                throw new AssertionError("SQL budget exceeded for " + description + ": " + counts.count(type) + " " + type
+                        + " statements, budget " + limit + ". Executed: " + counts);
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.studyproject.utils.sql;
+
+import com.example.studyproject.utils.jdbc.JdbcInterceptor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+/**
+ * Import into a {@code @SpringBootTest} to count the JDBC statements of every MockMvc request
+ * and check them with {@link SqlBudget}.
+ */
+@TestConfiguration
+public class SqlCountingConfiguration {
+
+    @Bean
+    public JdbcInterceptor sqlCountingInterceptor() {
+        return new SqlCountingInterceptor();
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementCountingFilter> sqlStatementCountingFilter() {
+        FilterRegistrationBean<SqlStatementCountingFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementCountingFilter());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.studyproject.utils.sql;
+
+import com.example.studyproject.utils.jdbc.JdbcInterceptor;
+import com.example.studyproject.utils.jdbc.StatementExecution;
+
+import java.sql.SQLException;
+
+/**
+ * Reports every executed statement and batch to {@link SqlStatementRecorder}.
+ */
+class SqlCountingInterceptor implements JdbcInterceptor {
+
+    @Override
+    public Object execute(StatementExecution execution) throws SQLException {
+        if (!execution.isBatch()) {
+            SqlStatementRecorder.executed(execution.getSql());
+        } else if (!execution.getBatch().isEmpty()) {
+            SqlStatementRecorder.batchExecuted(execution.getBatch().get(0), execution.getBatch().size());
+        }
+        return execution.proceed();
+    }
+}
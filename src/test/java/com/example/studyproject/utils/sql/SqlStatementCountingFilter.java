@@ -0,0 +1,25 @@
+package com.example.studyproject.utils.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+public class SqlStatementCountingFilter extends OncePerRequestFilter {
+
+    public static final String COUNTS_ATTRIBUTE = SqlStatementCountingFilter.class.getName() + ".counts";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementRecorder.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            request.setAttribute(COUNTS_ATTRIBUTE, SqlStatementRecorder.stop());
+        }
+    }
+}
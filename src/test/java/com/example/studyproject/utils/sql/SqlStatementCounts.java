@@ -0,0 +1,51 @@
+package com.example.studyproject.utils.sql;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC round trips recorded on one thread. A batch counts as a single statement of its type;
+ * its size is kept separately so tests can prove that rows were actually batched.
+ */
+public class SqlStatementCounts {
+
+    private final Map<SqlStatementType, Integer> statements = new EnumMap<>(SqlStatementType.class);
+    private final Map<SqlStatementType, List<Integer>> batchSizes = new EnumMap<>(SqlStatementType.class);
+    private final List<String> log = new ArrayList<>();
+
+    void executed(String sql) {
+        SqlStatementType type = SqlStatementType.of(sql);
+        statements.merge(type, 1, Integer::sum);
+        log.add(type + " " + sql);
+    }
+
+    void batchExecuted(String sql, int size) {
+        SqlStatementType type = SqlStatementType.of(sql);
+        statements.merge(type, 1, Integer::sum);
+        batchSizes.computeIfAbsent(type, key -> new ArrayList<>()).add(size);
+        log.add(type + " batch(" + size + ") " + sql);
+    }
+
+    public int count(SqlStatementType type) {
+        return statements.getOrDefault(type, 0);
+    }
+
+    public int total() {
+        return statements.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public List<Integer> batchSizes(SqlStatementType type) {
+        return batchSizes.getOrDefault(type, List.of());
+    }
+
+    public int batchedRows(SqlStatementType type) {
+        return batchSizes(type).stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Override
+    public String toString() {
+        return statements + (log.isEmpty() ? "" : "\n  " + String.join("\n  ", log));
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.studyproject.utils.sql;
+
+/**
+ * Collects statements executed by the current thread between {@link #start()} and {@link #stop()}.
+ * Scheduled scans and other background threads are never counted.
+ */
+public final class SqlStatementRecorder {
+
+    private static final ThreadLocal<SqlStatementCounts> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementRecorder() {
+    }
+
+    public static void start() {
+        CURRENT.set(new SqlStatementCounts());
+    }
+
+    public static SqlStatementCounts stop() {
+        SqlStatementCounts counts = CURRENT.get();
+        CURRENT.remove();
+        return counts;
+    }
+
+    public static SqlStatementCounts record(Runnable action) {
+        SqlStatementCounts counts = new SqlStatementCounts();
+        CURRENT.set(counts);
+        try {
+            action.run();
+        } finally {
+            CURRENT.remove();
+        }
+        return counts;
+    }
+
+    static void executed(String sql) {
+        SqlStatementCounts counts = CURRENT.get();
+        if (counts != null) {
+            counts.executed(sql);
+        }
+    }
+
+    static void batchExecuted(String sql, int size) {
+        SqlStatementCounts counts = CURRENT.get();
+        if (counts != null && size > 0) {
+            counts.batchExecuted(sql, size);
+        }
+    }
+}
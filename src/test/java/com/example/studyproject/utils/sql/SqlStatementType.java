@@ -0,0 +1,22 @@
+package com.example.studyproject.utils.sql;
+
+import java.util.Locale;
+
+public enum SqlStatementType {
+    SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+    public static SqlStatementType of(String sql) {
+        String statement = sql.stripLeading();
+        int end = 0;
+        while (end < statement.length() && Character.isLetter(statement.charAt(end))) {
+            end++;
+        }
+        return switch (statement.substring(0, end).toLowerCase(Locale.ROOT)) {
+            case "select", "with" -> SELECT;
+            case "insert", "merge" -> INSERT;
+            case "update" -> UPDATE;
+            case "delete" -> DELETE;
+            default -> OTHER;
+        };
+    }
+}